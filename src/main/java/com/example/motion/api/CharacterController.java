@@ -15,8 +15,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import com.example.motion.sys.model.Direction;
 import com.example.motion.sys.model.Vector3D;
@@ -75,6 +77,53 @@ public class CharacterController {
         return ResponseEntity.ok(new CharacterResponse(characterId, state));
     }
 
+    @Operation(summary = "Sucht Charaktere im Umkreis",
+              description = "Liefert alle Charaktere innerhalb eines Radius um einen Punkt der XZ-Ebene "
+                  + "(Stand des letzten Simulations-Ticks)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Suche erfolgreich"),
+        @ApiResponse(responseCode = "400", description = "Ungültiger Radius",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/nearby")
+    public ResponseEntity<List<CharacterResponse>> findNearbyCharacters(
+            @Parameter(description = "X-Koordinate des Mittelpunkts") @RequestParam float x,
+            @Parameter(description = "Z-Koordinate des Mittelpunkts") @RequestParam float z,
+            @Parameter(description = "Suchradius") @RequestParam float radius) {
+        return ResponseEntity.ok(toResponses(motionService.findCharactersNear(x, z, radius)));
+    }
+
+    @Operation(summary = "Sucht Charaktere in einem Bereich",
+              description = "Liefert alle Charaktere innerhalb eines achsenparallelen Rechtecks der XZ-Ebene")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Suche erfolgreich"),
+        @ApiResponse(responseCode = "400", description = "Ungültiger Bereich",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/area")
+    public ResponseEntity<List<CharacterResponse>> findCharactersInArea(
+            @Parameter(description = "Minimale X-Koordinate") @RequestParam float minX,
+            @Parameter(description = "Minimale Z-Koordinate") @RequestParam float minZ,
+            @Parameter(description = "Maximale X-Koordinate") @RequestParam float maxX,
+            @Parameter(description = "Maximale Z-Koordinate") @RequestParam float maxZ) {
+        return ResponseEntity.ok(toResponses(motionService.findCharactersInArea(minX, minZ, maxX, maxZ)));
+    }
+
+    @Operation(summary = "Sucht die nächsten Charaktere",
+              description = "Liefert die nächsten Charaktere zu einem Punkt, aufsteigend nach Entfernung")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Suche erfolgreich"),
+        @ApiResponse(responseCode = "400", description = "Ungültige Anzahl",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/nearest")
+    public ResponseEntity<List<CharacterResponse>> findNearestCharacters(
+            @Parameter(description = "X-Koordinate des Punkts") @RequestParam float x,
+            @Parameter(description = "Z-Koordinate des Punkts") @RequestParam float z,
+            @Parameter(description = "Maximale Anzahl der Ergebnisse") @RequestParam(defaultValue = "10") int count) {
+        return ResponseEntity.ok(toResponses(motionService.findNearestCharacters(x, z, count)));
+    }
+
     @Operation(summary = "Bewegt einen Charakter",
               description = "Setzt die Bewegungsrichtung und Geschwindigkeit eines Charakters")
     @ApiResponses(value = {
@@ -129,6 +178,12 @@ public class CharacterController {
             .thenApply(state -> ResponseEntity.ok(new CharacterResponse(characterId, state)));
     }
 
+    private List<CharacterResponse> toResponses(List<MotionState> states) {
+        return states.stream()
+            .map(state -> new CharacterResponse(state.getCharacterId(), state))
+            .collect(Collectors.toList());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.badRequest()
@@ -0,0 +1,34 @@
+package com.example.motion.api;
+
+import com.example.motion.api.dto.ParticleStatsResponse;
+import com.example.motion.visual.VisualEffectsController;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/effects")
+@Tag(name = "Effects Controller", description = "API für den Zustand der visuellen Effekte")
+public class EffectsController {
+
+    private final VisualEffectsController visualEffects;
+
+    public EffectsController(VisualEffectsController visualEffects) {
+        this.visualEffects = visualEffects;
+    }
+
+    @Operation(summary = "Metriken des Partikelsystems",
+              description = "Gibt Auslastung des Partikelpools und die Zähler verdrängter und verworfener Partikel zurück")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Metriken erfolgreich abgerufen")
+    })
+    @GetMapping("/particles/stats")
+    public ResponseEntity<ParticleStatsResponse> getParticleStats() {
+        return ResponseEntity.ok(new ParticleStatsResponse(visualEffects.getParticleStats()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.motion.api.dto;
+
+import com.example.motion.visual.particle.ParticleSystem.ParticleStats;
+import lombok.Getter;
+
+@Getter
+public class ParticleStatsResponse {
+    private final int activeParticles;
+    private final int maxParticles;
+    private final int activeEmitters;
+    private final long culledParticles;
+    private final long droppedByBudget;
+    private final long droppedByCapacity;
+
+    public ParticleStatsResponse(ParticleStats stats) {
+        this.activeParticles = stats.activeParticles();
+        this.maxParticles = stats.maxParticles();
+        this.activeEmitters = stats.activeEmitters();
+        this.culledParticles = stats.culledParticles();
+        this.droppedByBudget = stats.droppedByBudget();
+        this.droppedByCapacity = stats.droppedByCapacity();
+    }
+}
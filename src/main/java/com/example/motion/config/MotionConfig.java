@@ -5,10 +5,21 @@ import com.example.motion.sys.behavior.IMotionLayer;
 import com.example.motion.sys.data.InMemoryMotionDataRepository;
 import com.example.motion.sys.data.IMotionDataRepository;
 import com.example.motion.services.CharacterMotionServiceImpl;
+import com.example.motion.sys.world.CollisionWorld;
+import com.example.motion.sys.world.CollisionWorldLoader;
+import com.example.motion.websocket.BackpressurePolicy;
+import com.example.motion.websocket.WebSocketStreamSettings;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @Configuration
 public class MotionConfig {
@@ -26,8 +37,43 @@ public class MotionConfig {
     }
     */
 
+    /**
+     * Lädt die statische Kollisionswelt aus {@code motion.world.resource}.
+     * Ohne Angabe wird eine leere Welt mit flachem Boden auf Höhe 0 verwendet.
+     */
+    @Bean
+    public CollisionWorld collisionWorld(@Value("${motion.world.resource:}") String location,
+                                         ResourceLoader resourceLoader,
+                                         ObjectMapper objectMapper) throws IOException {
+        if (location == null || location.isBlank()) {
+            return CollisionWorld.EMPTY;
+        }
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream input = resource.getInputStream()) {
+            return new CollisionWorldLoader(objectMapper).load(input);
+        }
+    }
+
+    /**
+     * Einstellungen für das Streaming der Bewegungsupdates über WebSocket.
+     */
+    @Bean
+    public WebSocketStreamSettings webSocketStreamSettings(
+            @Value("${motion.websocket.max-frame-size:65536}") int maxFrameSize,
+            @Value("${motion.websocket.dead-reckoning.threshold:0.1}") float deadReckoningThreshold,
+            @Value("${motion.websocket.dead-reckoning.keyframe-interval:60}") long keyframeInterval,
+            @Value("${motion.websocket.backpressure.policy:COALESCE_LATEST}") BackpressurePolicy backpressurePolicy,
+            @Value("${motion.websocket.backpressure.queue-capacity:4096}") int queueCapacity,
+            @Value("${motion.websocket.backpressure.max-lag-ms:5000}") long maxLagMillis,
+            @Value("${motion.websocket.sender-threads:4}") int senderThreads,
+            @Value("${motion.websocket.send-rate:20}") int sendRate) {
+        return new WebSocketStreamSettings(maxFrameSize, deadReckoningThreshold, keyframeInterval,
+            backpressurePolicy, queueCapacity, maxLagMillis, senderThreads, sendRate);
+    }
+
     @Bean
-    public ICharacterMotionService characterMotionService(IMotionDataRepository repository) {
-        return new CharacterMotionServiceImpl(repository);
+    public ICharacterMotionService characterMotionService(IMotionDataRepository repository,
+                                                          CollisionWorld collisionWorld) {
+        return new CharacterMotionServiceImpl(repository, collisionWorld);
     }
 }
\ No newline at end of file
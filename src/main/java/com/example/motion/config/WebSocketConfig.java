@@ -1,7 +1,7 @@
 package com.example.motion.config;
 
 import com.example.motion.websocket.MotionWebSocketHandler;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.motion.websocket.ParticleStreamHandler;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
@@ -11,15 +11,21 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
 @EnableWebSocket
 public class WebSocketConfig implements WebSocketConfigurer {
 
-    private final ObjectMapper objectMapper;
+    private final MotionWebSocketHandler motionWebSocketHandler;
+    private final ParticleStreamHandler particleStreamHandler;
 
-    public WebSocketConfig(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public WebSocketConfig(MotionWebSocketHandler motionWebSocketHandler,
+                           ParticleStreamHandler particleStreamHandler) {
+        this.motionWebSocketHandler = motionWebSocketHandler;
+        this.particleStreamHandler = particleStreamHandler;
     }
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
-        registry.addHandler(new MotionWebSocketHandler(objectMapper), "/motion-updates")
+        // Die Bean registrieren, damit der Handler die Tick-Updates des Service erhält
+        registry.addHandler(motionWebSocketHandler, "/motion-updates")
                .setAllowedOrigins("*");  // In Produktion einschränken!
+        registry.addHandler(particleStreamHandler, "/particle-updates")
+               .setAllowedOrigins("*");
     }
 }
@@ -1,6 +1,7 @@
 package com.example.motion.interfaces;
 
 import com.example.motion.sys.model.MotionState;
+import com.example.motion.sys.model.Position;
 import com.example.motion.sys.model.Direction;
 import com.example.motion.sys.behavior.IMotionLayer;
 import com.example.motion.interfaces.MotionCallback;
@@ -83,6 +84,21 @@ public interface ICharacterMotionService {
      */
     void registerMotionCallback(UUID characterId, MotionCallback callback);
 
+    /**
+     * Registriert einen Listener, der am Ende jedes Simulations-Ticks alle geänderten
+     * Bewegungszustände gesammelt erhält.
+     *
+     * @param listener Der zu registrierende Listener
+     */
+    void addTickListener(MotionTickListener listener);
+
+    /**
+     * Entfernt einen zuvor registrierten Tick-Listener.
+     *
+     * @param listener Der zu entfernende Listener
+     */
+    void removeTickListener(MotionTickListener listener);
+
     /**
      * Fragt den aktuellen Bewegungszustand eines Charakters ab.
      *
@@ -90,4 +106,36 @@ public interface ICharacterMotionService {
      * @return Der aktuelle Bewegungszustand
      */
     MotionState getMotionState(UUID characterId);
+
+    /**
+     * Findet alle Charaktere innerhalb eines Radius in der XZ-Ebene.
+     * Die Positionen entsprechen dem Stand des letzten Simulations-Ticks.
+     *
+     * @param x X-Koordinate des Mittelpunkts
+     * @param z Z-Koordinate des Mittelpunkts
+     * @param radius Suchradius; größere Werte als {@link Position#MAX_DISTANCE} werden darauf begrenzt
+     * @return Bewegungszustände der gefundenen Charaktere
+     */
+    List<MotionState> findCharactersNear(float x, float z, float radius);
+
+    /**
+     * Findet alle Charaktere innerhalb eines achsenparallelen Rechtecks in der XZ-Ebene.
+     *
+     * @param minX Minimale X-Koordinate
+     * @param minZ Minimale Z-Koordinate
+     * @param maxX Maximale X-Koordinate
+     * @param maxZ Maximale Z-Koordinate
+     * @return Bewegungszustände der gefundenen Charaktere
+     */
+    List<MotionState> findCharactersInArea(float minX, float minZ, float maxX, float maxZ);
+
+    /**
+     * Findet die nächsten Charaktere zu einem Punkt in der XZ-Ebene.
+     *
+     * @param x X-Koordinate des Punkts
+     * @param z Z-Koordinate des Punkts
+     * @param count Maximale Anzahl der Ergebnisse
+     * @return Bewegungszustände, aufsteigend nach Entfernung sortiert
+     */
+    List<MotionState> findNearestCharacters(float x, float z, int count);
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.motion.interfaces;
+
+import com.example.motion.sys.model.MotionState;
+import com.example.motion.sys.time.SimulationTime;
+
+import java.util.Collection;
+
+/**
+ * Listener für abgeschlossene Simulations-Ticks.
+ * Erhält pro Tick alle Bewegungszustände, die sich seit dem letzten Tick geändert haben,
+ * gesammelt statt einzeln pro Update.
+ */
+@FunctionalInterface
+public interface MotionTickListener {
+    /**
+     * Wird am Ende jedes Ticks auf dem Tick-Thread aufgerufen.
+     * Implementierungen sollten nicht blockieren.
+     *
+     * @param time Simulationszeitpunkt des Ticks
+     * @param changedStates Geänderte Zustände, höchstens einer pro Charakter
+     */
+    void onTick(SimulationTime time, Collection<MotionState> changedStates);
+}
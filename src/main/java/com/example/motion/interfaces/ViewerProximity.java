@@ -0,0 +1,21 @@
+package com.example.motion.interfaces;
+
+import java.util.UUID;
+
+/**
+ * Auskunft darüber, wie nah ein Charakter den Betrachtern der verbundenen Clients ist.
+ * Grundlage für den Detailgrad visueller Effekte.
+ */
+@FunctionalInterface
+public interface ViewerProximity {
+    /**
+     * Wird von beliebigen Threads aufgerufen und sollte nicht blockieren.
+     *
+     * @param characterId ID des Charakters
+     * @param x Position des Charakters in x
+     * @param z Position des Charakters in z
+     * @return Abstand in der XZ-Ebene zum nächsten Betrachter, 0 für explizit beobachtete
+     *         Charaktere, {@link Float#POSITIVE_INFINITY}, wenn niemand den Charakter sieht
+     */
+    float nearestViewerDistance(UUID characterId, float x, float z);
+}
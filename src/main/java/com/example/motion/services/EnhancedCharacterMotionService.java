@@ -2,10 +2,12 @@ package com.example.motion.services;
 
 import com.example.motion.interfaces.ICharacterMotionService;
 import com.example.motion.interfaces.MotionCallback;
+import com.example.motion.interfaces.MotionTickListener;
 import com.example.motion.sys.behavior.IMotionLayer;
 import com.example.motion.sys.data.IMotionDataRepository;
 import com.example.motion.sys.model.Direction;
 import com.example.motion.sys.model.MotionState;
+import com.example.motion.sys.world.CollisionWorld;
 import com.example.motion.visual.VisualEffectsController;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
@@ -30,8 +32,10 @@ public class EnhancedCharacterMotionService implements ICharacterMotionService {
      * Erstellt einen neuen EnhancedCharacterMotionService.
      */
     @Autowired
-    public EnhancedCharacterMotionService(IMotionDataRepository repository, VisualEffectsController visualEffects) {
-        this.baseService = new CharacterMotionServiceImpl(repository);
+    public EnhancedCharacterMotionService(IMotionDataRepository repository,
+                                          VisualEffectsController visualEffects,
+                                          CollisionWorld world) {
+        this.baseService = new CharacterMotionServiceImpl(repository, world);
         this.visualEffects = visualEffects;
     }
     
@@ -123,11 +127,36 @@ public class EnhancedCharacterMotionService implements ICharacterMotionService {
         });
     }
     
+    @Override
+    public void addTickListener(MotionTickListener listener) {
+        baseService.addTickListener(listener);
+    }
+    
+    @Override
+    public void removeTickListener(MotionTickListener listener) {
+        baseService.removeTickListener(listener);
+    }
+    
     @Override
     public MotionState getMotionState(UUID characterId) {
         return baseService.getMotionState(characterId);
     }
     
+    @Override
+    public List<MotionState> findCharactersNear(float x, float z, float radius) {
+        return baseService.findCharactersNear(x, z, radius);
+    }
+    
+    @Override
+    public List<MotionState> findCharactersInArea(float minX, float minZ, float maxX, float maxZ) {
+        return baseService.findCharactersInArea(minX, minZ, maxX, maxZ);
+    }
+    
+    @Override
+    public List<MotionState> findNearestCharacters(float x, float z, int count) {
+        return baseService.findNearestCharacters(x, z, count);
+    }
+    
     /**
      * Ermittelt den Typ des aktiven Layers.
      * 
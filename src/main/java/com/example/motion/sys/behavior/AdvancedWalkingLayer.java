@@ -1,5 +1,6 @@
 package com.example.motion.sys.behavior;
 
+import com.example.motion.sys.math.FastMath;
 import com.example.motion.sys.model.*;
 
 import java.util.UUID;
@@ -57,7 +58,7 @@ public class AdvancedWalkingLayer implements IMotionLayer {
 
         // Schrittzyklus aktualisieren
         float cycle = stepCycles.getOrDefault(characterId, 0.0f);
-        cycle = (cycle + deltaTime * currentState.getSpeed()) % (2 * (float) Math.PI);
+        cycle = (cycle + deltaTime * currentState.getSpeed()) % FastMath.TWO_PI;
         stepCycles.put(characterId, cycle);
 
         // Parameter für aktuelle Gangart
@@ -69,10 +70,8 @@ public class AdvancedWalkingLayer implements IMotionLayer {
         Rotation rotation = currentState.getRotation();
 
         float distance = currentState.getSpeed() * stepLength * deltaTime;
-        float newX = currentPos.getX()
-                + distance * (float) Math.cos(Math.toRadians(rotation.getYaw()));
-        float newZ = currentPos.getZ()
-                + distance * (float) Math.sin(Math.toRadians(rotation.getYaw()));
+        float newX = currentPos.getX() + distance * rotation.getYawCos();
+        float newZ = currentPos.getZ() + distance * rotation.getYawSin();
 
         // Vertikale Bewegung basierend auf Gangart
         float verticalOffset = calculateVerticalOffset(cycle, stepHeight, gaitType);
@@ -115,13 +114,13 @@ public class AdvancedWalkingLayer implements IMotionLayer {
         case LIMPING:
             // Asymmetrische Bewegung für hinkende Gangart
             return stepHeight
-                    * (float) Math.max(0, Math.sin(cycle) * (1 + 0.5f * Math.sin(cycle / 2)));
+                    * Math.max(0, FastMath.sin(cycle) * (1 + 0.5f * FastMath.sin(cycle / 2)));
         case SNEAKING:
             // Flachere, gleichmäßigere Bewegung
-            return stepHeight * (float) Math.abs(Math.sin(cycle));
+            return stepHeight * Math.abs(FastMath.sin(cycle));
         default:
             // Normale sinusförmige Auf/Ab-Bewegung
-            return stepHeight * (float) Math.sin(cycle);
+            return stepHeight * FastMath.sin(cycle);
         }
     }
 
@@ -132,23 +131,22 @@ public class AdvancedWalkingLayer implements IMotionLayer {
         switch (gaitType) {
         case LIMPING:
             // Deutlichere Neigung für hinkende Gangart
-            pitchOffset = 3.0f * (float) Math.sin(cycle / 2);
-            rollOffset = 4.0f * (float) Math.sin(cycle);
+            pitchOffset = 3.0f * FastMath.sin(cycle / 2);
+            rollOffset = 4.0f * FastMath.sin(cycle);
             break;
         case SNEAKING:
             // Minimale Bewegung für schleichende Gangart
-            pitchOffset = 1.0f * (float) Math.sin(cycle);
-            rollOffset = 1.0f * (float) Math.sin(cycle * 2);
+            pitchOffset = 1.0f * FastMath.sin(cycle);
+            rollOffset = 1.0f * FastMath.sin(cycle * 2);
             break;
         default:
             // Normale Gangbewegung
-            pitchOffset = 2.0f * (float) Math.sin(cycle);
-            rollOffset = 2.0f * (float) Math.sin(cycle * 2);
+            pitchOffset = 2.0f * FastMath.sin(cycle);
+            rollOffset = 2.0f * FastMath.sin(cycle * 2);
         }
 
-        return new Rotation(
+        return baseRotation.withPitchAndRoll(
                 baseRotation.getPitch() + pitchOffset,
-                baseRotation.getYaw(),
                 baseRotation.getRoll() + rollOffset);
     }
 
@@ -158,21 +156,22 @@ public class AdvancedWalkingLayer implements IMotionLayer {
         return null;
     }
 
-    public MotionState processPhysics(UUID characterId, PhysicsData physicsData) {
-        // Basis-Physik mit Gangart-spezifischen Anpassungen
+    public float getGravityScale(UUID characterId) {
+        // Gangart-spezifische Schwerkraft
         GaitType gaitType = characterGaits.getOrDefault(characterId, GaitType.NORMAL);
 
-        float verticalAdjustment = switch (gaitType) {
+        return switch (gaitType) {
         case SNEAKING -> 0.5f; // Niedrigerer Schwerpunkt
         case LIMPING -> 0.8f; // Leicht reduzierte Fallgeschwindigkeit
         default -> 1.0f; // Normale Physik
         };
+    }
 
+    public MotionState processPhysics(UUID characterId, PhysicsData physicsData) {
+        // Schwerkraft wurde bereits mit getGravityScale integriert
         Position adjustedPosition = new Position(
                 physicsData.getPosition().getX(),
-                Math.max(0,
-                        physicsData.getPosition().getY()
-                                - 9.81f * physicsData.getDeltaTime() * verticalAdjustment),
+                Math.max(physicsData.getGroundHeight(), physicsData.getPosition().getY()),
                 physicsData.getPosition().getZ());
 
         return new MotionState(
@@ -218,9 +217,6 @@ public class AdvancedWalkingLayer implements IMotionLayer {
     }
 
     private Rotation interpolateRotation(Rotation start, Rotation end, float factor) {
-        return new Rotation(
-                start.getPitch() + (end.getPitch() - start.getPitch()) * factor,
-                start.getYaw() + (end.getYaw() - start.getYaw()) * factor,
-                start.getRoll() + (end.getRoll() - start.getRoll()) * factor);
+        return Rotation.interpolate(start, end, factor);
     }
 }
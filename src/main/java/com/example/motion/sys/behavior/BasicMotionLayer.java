@@ -13,11 +13,11 @@ public class BasicMotionLayer implements IMotionLayer {
     public MotionState processMotion(UUID characterId, MotionState currentState, float deltaTime) {
         // Berechne neue Position basierend auf Geschwindigkeit und Rotation
         float speed = currentState.getSpeed();
-        float rotation = currentState.getRotation().getYaw();
+        Rotation rotation = currentState.getRotation();
         
         // Berechne Bewegungsvektor
-        float dx = (float) Math.sin(Math.toRadians(rotation)) * speed * deltaTime;
-        float dz = (float) Math.cos(Math.toRadians(rotation)) * speed * deltaTime;
+        float dx = rotation.getYawSin() * speed * deltaTime;
+        float dz = rotation.getYawCos() * speed * deltaTime;
         
         // Aktualisiere Position
         Position currentPos = currentState.getPosition();
@@ -70,13 +70,7 @@ public class BasicMotionLayer implements IMotionLayer {
             startPos.getZ() + (endPos.getZ() - startPos.getZ()) * factor
         );
         
-        Rotation startRot = start.getRotation();
-        Rotation endRot = end.getRotation();
-        Rotation interpolatedRot = new Rotation(
-            startRot.getPitch() + (endRot.getPitch() - startRot.getPitch()) * factor,
-            startRot.getYaw() + (endRot.getYaw() - startRot.getYaw()) * factor,
-            startRot.getRoll() + (endRot.getRoll() - startRot.getRoll()) * factor
-        );
+        Rotation interpolatedRot = Rotation.interpolate(start.getRotation(), end.getRotation(), factor);
         
         float interpolatedSpeed = start.getSpeed() + (end.getSpeed() - start.getSpeed()) * factor;
         
@@ -1,25 +1,37 @@
 package com.example.motion.sys.behavior;
 
+import com.example.motion.sys.math.FastMath;
 import com.example.motion.sys.model.*;
+import com.example.motion.sys.time.DeltaTimeline;
+import com.example.motion.sys.time.SimulationTime;
 import java.util.UUID;
 
 /**
  * Basis-Implementation eines Motion Layers für Gehbewegungen.
  */
 public class BasicWalkingLayer implements IMotionLayer {
+
+    // Zeitlinie je Charakter für Aufrufer, die nur eine Schrittweite übergeben
+    private final DeltaTimeline deltaTimeline = new DeltaTimeline();
     
     @Override
     public MotionState processMotion(UUID characterId, MotionState currentState, float deltaTime) {
+        return processMotion(characterId, currentState, deltaTimeline.advance(characterId, deltaTime));
+    }
+    
+    @Override
+    public MotionState processMotion(UUID characterId, MotionState currentState, SimulationTime time) {
+        float deltaTime = time.getDeltaSeconds();
         float speed = currentState.getSpeed();
         Rotation rotation = currentState.getRotation();
         Position currentPos = currentState.getPosition();
         
         // Berechne Bewegungsvektor basierend auf Rotation und Geschwindigkeit
-        float dx = (float) Math.sin(Math.toRadians(rotation.getYaw())) * speed * deltaTime;
-        float dz = (float) Math.cos(Math.toRadians(rotation.getYaw())) * speed * deltaTime;
+        float dx = rotation.getYawSin() * speed * deltaTime;
+        float dz = rotation.getYawCos() * speed * deltaTime;
         
         // Simuliere leichte vertikale Oszillation für natürlicheren Gang
-        float bobbing = (float) Math.sin(System.currentTimeMillis() / 500.0) * 0.05f * speed;
+        float bobbing = FastMath.sin(time.phase(0.5)) * 0.05f * speed;
         
         // Aktualisiere Position
         Position newPos = new Position(
@@ -42,16 +54,21 @@ public class BasicWalkingLayer implements IMotionLayer {
         return null;
     }
 
+    @Override
+    public float getGravityScale(UUID characterId) {
+        return 0.1f;
+    }
+
     @Override
     public MotionState processPhysics(UUID characterId, PhysicsData physicsData) {
-        // Einfache Physik-Verarbeitung mit Gravitationseinfluss
+        // Schwerkraft wurde bereits integriert
         Position position = physicsData.getPosition();
-        float groundY = 0.0f; // Annahme: Boden ist auf Y=0
+        float groundY = physicsData.getGroundHeight();
         
         // Stelle sicher, dass der Charakter nicht durch den Boden fällt
         Position adjustedPosition = new Position(
             position.getX(),
-            Math.max(groundY, position.getY() - 9.81f * physicsData.getDeltaTime() * 0.1f),
+            Math.max(groundY, position.getY()),
             position.getZ()
         );
         
@@ -81,13 +98,7 @@ public class BasicWalkingLayer implements IMotionLayer {
             startPos.getZ() + (endPos.getZ() - startPos.getZ()) * factor
         );
         
-        Rotation startRot = start.getRotation();
-        Rotation endRot = end.getRotation();
-        Rotation interpolatedRot = new Rotation(
-            startRot.getPitch() + (endRot.getPitch() - startRot.getPitch()) * factor,
-            startRot.getYaw() + (endRot.getYaw() - startRot.getYaw()) * factor,
-            startRot.getRoll() + (endRot.getRoll() - startRot.getRoll()) * factor
-        );
+        Rotation interpolatedRot = Rotation.interpolate(start.getRotation(), end.getRotation(), factor);
         
         float interpolatedSpeed = start.getSpeed() + (end.getSpeed() - start.getSpeed()) * factor;
         
@@ -101,6 +112,6 @@ public class BasicWalkingLayer implements IMotionLayer {
 
     @Override
     public void reset(UUID characterId) {
-        // Basic Walking Layer benötigt kein Reset
+        deltaTimeline.reset(characterId);
     }
 }
\ No newline at end of file
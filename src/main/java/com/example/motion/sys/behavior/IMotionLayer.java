@@ -3,6 +3,7 @@ package com.example.motion.sys.behavior;
 import com.example.motion.sys.model.MotionState;
 import com.example.motion.sys.model.CollisionData;
 import com.example.motion.sys.model.PhysicsData;
+import com.example.motion.sys.time.SimulationTime;
 import java.util.UUID;
 
 /**
@@ -21,6 +22,20 @@ public interface IMotionLayer {
      */
     MotionState processMotion(UUID characterId, MotionState currentState, float deltaTime);
     
+    /**
+     * Verarbeitet den aktuellen Bewegungszustand für einen Simulations-Tick.
+     * Layer mit zeitabhängigen Effekten (z.B. Oszillationen) überschreiben diese Methode und
+     * leiten ihre Phase aus der Simulationszeit statt aus der Wanduhr ab.
+     *
+     * @param characterId ID des Charakters
+     * @param currentState Aktueller Bewegungszustand
+     * @param time Simulationszeitpunkt des aktuellen Ticks
+     * @return Neuer Bewegungszustand
+     */
+    default MotionState processMotion(UUID characterId, MotionState currentState, SimulationTime time) {
+        return processMotion(characterId, currentState, time.getDeltaSeconds());
+    }
+    
     /**
      * Prüft auf Kollisionen für einen vorgeschlagenen Bewegungszustand.
      *
@@ -46,6 +61,18 @@ public interface IMotionLayer {
         );
     }
     
+    /**
+     * Gibt den Faktor an, mit dem die Schwerkraft im Physikschritt auf den Charakter wirkt.
+     * Der Service integriert die Schwerkraft selbst; {@link #processPhysics} erhält bereits
+     * die integrierte Position und muss sie nicht erneut anwenden.
+     *
+     * @param characterId ID des Charakters
+     * @return Schwerkraftfaktor (0 = keine Schwerkraft, 1 = volle Erdbeschleunigung)
+     */
+    default float getGravityScale(UUID characterId) {
+        return 0.0f;
+    }
+    
     /**
      * Validiert einen Bewegungszustand.
      *
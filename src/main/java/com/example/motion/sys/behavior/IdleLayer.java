@@ -1,6 +1,9 @@
 package com.example.motion.sys.behavior;
 
+import com.example.motion.sys.math.FastMath;
 import com.example.motion.sys.model.*;
+import com.example.motion.sys.time.DeltaTimeline;
+import com.example.motion.sys.time.SimulationTime;
 import java.util.UUID;
 
 /**
@@ -10,14 +13,22 @@ public class IdleLayer implements IMotionLayer {
 
     private static final float BREATHING_AMPLITUDE = 0.02f;
 
+    // Zeitlinie je Charakter für Aufrufer, die nur eine Schrittweite übergeben
+    private final DeltaTimeline deltaTimeline = new DeltaTimeline();
+
     @Override
     public MotionState processMotion(UUID characterId, MotionState currentState, float deltaTime) {
+        return processMotion(characterId, currentState, deltaTimeline.advance(characterId, deltaTime));
+    }
+
+    @Override
+    public MotionState processMotion(UUID characterId, MotionState currentState, SimulationTime time) {
         if (currentState.getSpeed() > 0) {
             return currentState;
         }
 
         // Implementiere subtile Atembewegung
-        float breathingOffset = (float) Math.sin(System.currentTimeMillis() / 1000.0)
+        float breathingOffset = FastMath.sin(time.phase(1.0))
                 * BREATHING_AMPLITUDE;
 
         Position currentPos = currentState.getPosition();
@@ -28,10 +39,9 @@ public class IdleLayer implements IMotionLayer {
 
         // Füge gelegentliche Kopfbewegungen hinzu
         Rotation currentRot = currentState.getRotation();
-        float headMovement = (float) Math.sin(System.currentTimeMillis() / 3000.0) * 2.0f;
-        Rotation newRotation = new Rotation(
+        float headMovement = FastMath.sin(time.phase(3.0)) * 2.0f;
+        Rotation newRotation = currentRot.withPitchAndRoll(
                 currentRot.getPitch() + headMovement,
-                currentRot.getYaw(),
                 currentRot.getRoll());
 
         return new MotionState(
@@ -82,7 +92,7 @@ public class IdleLayer implements IMotionLayer {
     
     @Override
     public void reset(UUID characterId) {
-        // IdleLayer benötigt kein spezifisches Reset
+        deltaTimeline.reset(characterId);
     }
 
     private Position interpolatePosition(Position start, Position end, float factor) {
@@ -97,10 +107,6 @@ public class IdleLayer implements IMotionLayer {
     private Rotation interpolateRotation(Rotation start, Rotation end, float factor) {
         // Sanfte Rotation für natürliche Bewegungen
         float dampedFactor = (float) (1 - Math.pow(1 - factor, 2));
-        return new Rotation(
-                start.getPitch() + (end.getPitch() - start.getPitch())
-                        * dampedFactor,
-                start.getYaw() + (end.getYaw() - start.getYaw()) * dampedFactor,
-                start.getRoll() + (end.getRoll() - start.getRoll()) * dampedFactor);
+        return Rotation.interpolate(start, end, dampedFactor);
     }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.example.motion.sys.behavior;
 
+import com.example.motion.sys.math.FastMath;
 import com.example.motion.sys.model.*;
+import com.example.motion.sys.time.DeltaTimeline;
+import com.example.motion.sys.time.SimulationTime;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -15,9 +18,17 @@ public class RunningLayer implements IMotionLayer {
     private static final float MAX_STAMINA = 100.0f;
     
     private final Map<UUID, Float> staminaLevels = new ConcurrentHashMap<>();
+    // Zeitlinie je Charakter für Aufrufer, die nur eine Schrittweite übergeben
+    private final DeltaTimeline deltaTimeline = new DeltaTimeline();
 
     @Override
     public MotionState processMotion(UUID characterId, MotionState currentState, float deltaTime) {
+        return processMotion(characterId, currentState, deltaTimeline.advance(characterId, deltaTime));
+    }
+
+    @Override
+    public MotionState processMotion(UUID characterId, MotionState currentState, SimulationTime time) {
+        float deltaTime = time.getDeltaSeconds();
         float speed = currentState.getSpeed();
         float currentStamina = getStamina(characterId);
 
@@ -39,13 +50,11 @@ public class RunningLayer implements IMotionLayer {
         Rotation rotation = currentState.getRotation();
 
         float distance = speed * RUNNING_SPEED * deltaTime;
-        float newX = currentPos.getX()
-                + distance * (float) Math.cos(Math.toRadians(rotation.getYaw()));
-        float newZ = currentPos.getZ()
-                + distance * (float) Math.sin(Math.toRadians(rotation.getYaw()));
+        float newX = currentPos.getX() + distance * rotation.getYawCos();
+        float newZ = currentPos.getZ() + distance * rotation.getYawSin();
 
         // Füge vertikale Oszillation für Laufbewegung hinzu
-        float bobbing = (float) Math.sin(System.currentTimeMillis() / 200.0) * 0.1f * speed;
+        float bobbing = FastMath.sin(time.phase(0.2)) * 0.1f * speed;
         float newY = currentPos.getY() + bobbing;
 
         return new MotionState(
@@ -61,6 +70,11 @@ public class RunningLayer implements IMotionLayer {
         return null; // Dummy-Implementierung
     }
 
+    @Override
+    public float getGravityScale(UUID characterId) {
+        return 0.2f;
+    }
+
     @Override
     public MotionState processPhysics(UUID characterId, PhysicsData physicsData) {
         // Physik mit Trägheit und Beschleunigung
@@ -69,11 +83,11 @@ public class RunningLayer implements IMotionLayer {
             speed = Math.min(RUNNING_SPEED, speed + ACCELERATION * physicsData.getDeltaTime());
         }
 
-        // Anwenden von Schwerkraft
+        // Schwerkraft wurde bereits integriert, nur Bodenkontakt sicherstellen
         Position position = physicsData.getPosition();
         Position adjustedPosition = new Position(
             position.getX(),
-            Math.max(0, position.getY() - 9.81f * physicsData.getDeltaTime() * 0.2f),
+            Math.max(physicsData.getGroundHeight(), position.getY()),
             position.getZ()
         );
 
@@ -104,13 +118,7 @@ public class RunningLayer implements IMotionLayer {
             startPos.getZ() + (endPos.getZ() - startPos.getZ()) * easedFactor
         );
         
-        Rotation startRot = start.getRotation();
-        Rotation endRot = end.getRotation();
-        Rotation interpolatedRot = new Rotation(
-            startRot.getPitch() + (endRot.getPitch() - startRot.getPitch()) * easedFactor,
-            startRot.getYaw() + (endRot.getYaw() - startRot.getYaw()) * easedFactor,
-            startRot.getRoll() + (endRot.getRoll() - startRot.getRoll()) * easedFactor
-        );
+        Rotation interpolatedRot = Rotation.interpolate(start.getRotation(), end.getRotation(), easedFactor);
         
         float interpolatedSpeed = start.getSpeed() + (end.getSpeed() - start.getSpeed()) * easedFactor;
         
@@ -126,6 +134,7 @@ public class RunningLayer implements IMotionLayer {
     public void reset(UUID characterId) {
         // Stamina zurücksetzen
         staminaLevels.put(characterId, MAX_STAMINA);
+        deltaTimeline.reset(characterId);
     }
     
     private float getStamina(UUID characterId) {
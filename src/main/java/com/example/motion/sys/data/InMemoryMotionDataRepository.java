@@ -34,7 +34,13 @@ public class InMemoryMotionDataRepository implements IMotionDataRepository {
     @Override
     public void saveMotionState(UUID characterId, MotionState state) {
         motionStates.put(characterId, state);
-        lastUpdateTimes.put(characterId, state.getTimestamp());
+        // Ungestempelte Zustände haben kein Alter und laufen nicht ab
+        Instant timestamp = state.getTimestamp();
+        if (timestamp != null) {
+            lastUpdateTimes.put(characterId, timestamp);
+        } else {
+            lastUpdateTimes.remove(characterId);
+        }
         
         // Aktualisiere Historie
         motionHistories.computeIfAbsent(characterId, k -> new ArrayList<>()).add(state);
@@ -66,7 +72,7 @@ public class InMemoryMotionDataRepository implements IMotionDataRepository {
         if (history != null) {
             Instant cutoff = Instant.now().minusMillis(olderThan);
             List<MotionState> filteredHistory = history.stream()
-                .filter(state -> state.getTimestamp().isAfter(cutoff))
+                .filter(state -> state.getTimestamp() == null || state.getTimestamp().isAfter(cutoff))
                 .collect(Collectors.toList());
             motionHistories.put(characterId, filteredHistory);
         }
@@ -87,7 +93,7 @@ public class InMemoryMotionDataRepository implements IMotionDataRepository {
         
         // Entferne alte Historien oder filtere sie
         motionHistories.forEach((characterId, history) -> {
-            history.removeIf(state -> state.getTimestamp().isBefore(cutoff));
+            history.removeIf(state -> state.getTimestamp() != null && state.getTimestamp().isBefore(cutoff));
         });
     }
 
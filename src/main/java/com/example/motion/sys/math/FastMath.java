@@ -0,0 +1,102 @@
+package com.example.motion.sys.math;
+
+/**
+ * Schnelle, tabellenbasierte Trigonometrie für Oszillatoren (Gangzyklus, Atmung, Wippen).
+ * Verwendet eine Sinustabelle mit linearer Interpolation; für alle endlichen Argumente liegt
+ * der absolute Fehler gegenüber {@link Math#sin}/{@link Math#cos} unter {@link #MAX_ERROR}.
+ * Der Tabellenindex wird dazu in double berechnet, Grad werden exakt per Rest auf eine
+ * Umdrehung reduziert, und Bogenmaß jenseits von {@link #TABLE_LIMIT_RADIANS} fällt auf
+ * {@link Math} zurück. Wachsende float-Phasen verlieren trotzdem Auflösung und sollten mit
+ * {@link #wrapRadians} im Bereich gehalten werden.
+ * Für Bewegungs- und Richtungsberechnungen, bei denen sich Fehler aufsummieren,
+ * weiterhin {@link Math} verwenden.
+ */
+public final class FastMath {
+
+    public static final float PI = (float) Math.PI;
+    public static final float TWO_PI = (float) (2.0 * Math.PI);
+    public static final float HALF_PI = (float) (Math.PI / 2.0);
+
+    /** Obergrenze für den absoluten Fehler von {@link #sin}, {@link #cos}, {@link #sinDeg} und {@link #cosDeg}. */
+    public static final float MAX_ERROR = 1.0e-6f;
+
+    /** Betrag im Bogenmaß, ab dem {@link #sin} und {@link #cos} an {@link Math} delegieren. */
+    public static final float TABLE_LIMIT_RADIANS = 1 << 20;
+
+    private static final int TABLE_BITS = 12;
+    private static final int TABLE_SIZE = 1 << TABLE_BITS;
+    private static final int TABLE_MASK = TABLE_SIZE - 1;
+    private static final double INDEX_PER_RADIAN = TABLE_SIZE / (2.0 * Math.PI);
+    private static final double INDEX_PER_DEGREE = TABLE_SIZE / 360.0;
+    private static final int QUARTER_TURN = TABLE_SIZE / 4;
+
+    // Ein zusätzlicher Eintrag, damit die Interpolation am Tabellenende nicht maskieren muss
+    private static final float[] SIN_TABLE = new float[TABLE_SIZE + 1];
+
+    static {
+        for (int i = 0; i <= TABLE_SIZE; i++) {
+            SIN_TABLE[i] = (float) Math.sin(i * 2.0 * Math.PI / TABLE_SIZE);
+        }
+    }
+
+    private FastMath() {
+    }
+
+    /**
+     * Sinus eines Winkels im Bogenmaß.
+     */
+    public static float sin(float radians) {
+        if (Math.abs(radians) >= TABLE_LIMIT_RADIANS) {
+            return (float) Math.sin(radians);
+        }
+        return lookup(radians * INDEX_PER_RADIAN, 0);
+    }
+
+    /**
+     * Kosinus eines Winkels im Bogenmaß.
+     */
+    public static float cos(float radians) {
+        if (Math.abs(radians) >= TABLE_LIMIT_RADIANS) {
+            return (float) Math.cos(radians);
+        }
+        return lookup(radians * INDEX_PER_RADIAN, QUARTER_TURN);
+    }
+
+    /**
+     * Sinus eines Winkels in Grad.
+     */
+    public static float sinDeg(float degrees) {
+        // Der Rest auf eine Umdrehung ist für float exakt
+        return lookup((degrees % 360.0f) * INDEX_PER_DEGREE, 0);
+    }
+
+    /**
+     * Kosinus eines Winkels in Grad.
+     */
+    public static float cosDeg(float degrees) {
+        return lookup((degrees % 360.0f) * INDEX_PER_DEGREE, QUARTER_TURN);
+    }
+
+    /**
+     * Reduziert einen Winkel im Bogenmaß auf den Bereich [0, 2π).
+     */
+    public static float wrapRadians(float radians) {
+        float wrapped = radians % TWO_PI;
+        return wrapped < 0 ? wrapped + TWO_PI : wrapped;
+    }
+
+    /**
+     * Interpoliert die Tabelle; der Index ist durch die Aufrufer auf den int-Bereich begrenzt.
+     */
+    private static float lookup(double index, int offset) {
+        int floor = (int) index;
+        if (index < floor) {
+            floor--;
+        }
+        float fraction = (float) (index - floor);
+        int i = (floor + offset) & TABLE_MASK;
+
+        float a = SIN_TABLE[i];
+        return a + (SIN_TABLE[i + 1] - a) * fraction;
+    }
+}
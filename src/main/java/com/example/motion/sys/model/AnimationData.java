@@ -70,14 +70,8 @@ public class AnimationData {
             startPos.getZ() + (endPos.getZ() - startPos.getZ()) * factor
         );
 
-        // Interpoliere Rotation
-        Rotation startRot = start.getRotation();
-        Rotation endRot = end.getRotation();
-        Rotation newRot = new Rotation(
-            startRot.getPitch() + (endRot.getPitch() - startRot.getPitch()) * factor,
-            startRot.getYaw() + (endRot.getYaw() - startRot.getYaw()) * factor,
-            startRot.getRoll() + (endRot.getRoll() - startRot.getRoll()) * factor
-        );
+        // Interpoliere Rotation entlang des kürzeren Bogens
+        Rotation newRot = Rotation.interpolate(start.getRotation(), end.getRotation(), factor);
 
         // Erstelle neuen Bewegungszustand
         return new MotionState(
@@ -1,30 +1,53 @@
 package com.example.motion.sys.model;
 
+import com.example.motion.sys.time.SimulationTime;
+
 import java.time.Instant;
 import java.util.UUID;
 
 /**
  * Repräsentiert den Bewegungszustand eines Charakters.
+ * Zwischenzustände der Layer-Verarbeitung tragen keinen eigenen Zeitstempel; der Service
+ * stempelt den finalen Zustand eines Ticks mit der {@link SimulationTime} des Ticks.
  */
 public class MotionState {
     private final UUID characterId;
     private final Position position;
     private final Rotation rotation;
     private final float speed;
+    private final SimulationTime time;
+    // Explizit gesetzter Zeitstempel; sonst gilt der Simulationszeitpunkt
     private final Instant timestamp;
 
     public MotionState(UUID characterId, Position position, Rotation rotation, float speed) {
-        this(characterId, position, rotation, speed, Instant.now());
+        this(characterId, position, rotation, speed, null, null);
     }
 
     public MotionState(UUID characterId, Position position, Rotation rotation, float speed, Instant timestamp) {
+        this(characterId, position, rotation, speed, null, timestamp);
+    }
+
+    public MotionState(UUID characterId, Position position, Rotation rotation, float speed, SimulationTime time) {
+        this(characterId, position, rotation, speed, time, null);
+    }
+
+    private MotionState(UUID characterId, Position position, Rotation rotation, float speed,
+                        SimulationTime time, Instant timestamp) {
         this.characterId = characterId;
         this.position = position;
         this.rotation = rotation;
         this.speed = speed;
+        this.time = time;
         this.timestamp = timestamp;
     }
 
+    /**
+     * Erstellt eine Kopie dieses Zustands, gestempelt mit dem angegebenen Simulationszeitpunkt.
+     */
+    public MotionState stampedAt(SimulationTime time) {
+        return new MotionState(characterId, position, rotation, speed, time, null);
+    }
+
     public UUID getCharacterId() {
         return characterId;
     }
@@ -41,13 +64,38 @@ public class MotionState {
         return speed;
     }
 
+    /**
+     * Gibt den Simulationszeitpunkt zurück, mit dem der Zustand gestempelt wurde.
+     *
+     * @return Simulationszeitpunkt oder null für ungestempelte Zustände
+     */
+    public SimulationTime getTime() {
+        return time;
+    }
+
+    /**
+     * Gibt den Tick zurück, in dem der Zustand entstanden ist, oder -1 wenn ungestempelt.
+     */
+    public long getTick() {
+        return time != null ? time.getTick() : -1;
+    }
+
+    /**
+     * Gibt den Zeitstempel des Zustands zurück: den explizit gesetzten, sonst die Wanduhrzeit
+     * des Simulationszeitpunkts.
+     *
+     * @return Zeitstempel oder null für ungestempelte Zustände
+     */
     public Instant getTimestamp() {
-        return timestamp;
+        if (timestamp != null) {
+            return timestamp;
+        }
+        return time != null ? time.toInstant() : null;
     }
 
     @Override
     public String toString() {
-        return String.format("MotionState(characterId=%s, position=%s, rotation=%s, speed=%.2f, timestamp=%s)",
-            characterId, position, rotation, speed, timestamp);
+        return String.format("MotionState(characterId=%s, position=%s, rotation=%s, speed=%.2f, tick=%d)",
+            characterId, position, rotation, speed, getTick());
     }
 }
@@ -10,6 +10,7 @@ public class PhysicsData {
     private final float deltaTime;
     private final Vector3D velocity;
     private final Vector3D acceleration;
+    private final float groundHeight;
 
     public PhysicsData(Position position,
                       Rotation rotation,
@@ -17,12 +18,26 @@ public class PhysicsData {
                       float deltaTime,
                       Vector3D velocity,
                       Vector3D acceleration) {
+        this(position, rotation, speed, deltaTime, velocity, acceleration, 0.0f);
+    }
+
+    /**
+     * @param groundHeight Bodenhöhe unter dem Charakter laut Kollisionswelt
+     */
+    public PhysicsData(Position position,
+                      Rotation rotation,
+                      float speed,
+                      float deltaTime,
+                      Vector3D velocity,
+                      Vector3D acceleration,
+                      float groundHeight) {
         this.position = position;
         this.rotation = rotation;
         this.speed = speed;
         this.deltaTime = deltaTime;
         this.velocity = velocity;
         this.acceleration = acceleration;
+        this.groundHeight = groundHeight;
     }
 
     public Position getPosition() { return position; }
@@ -31,4 +46,5 @@ public class PhysicsData {
     public float getDeltaTime() { return deltaTime; }
     public Vector3D getVelocity() { return velocity; }
     public Vector3D getAcceleration() { return acceleration; }
+    public float getGroundHeight() { return groundHeight; }
 }
@@ -4,6 +4,11 @@ package com.example.motion.sys.model;
  * Repräsentiert eine Position im 3D-Raum.
  */
 public class Position {
+    // Größter Betrag einer Koordinate in der Welt; Abfragen außerhalb werden abgelehnt
+    public static final float MAX_COORDINATE = 1_000_000.0f;
+    // Diagonale der Welt; größere Suchradien liefern kein anderes Ergebnis
+    public static final float MAX_DISTANCE = (float) (2 * Math.sqrt(2) * MAX_COORDINATE);
+
     private final float x;
     private final float y;
     private final float z;
@@ -26,6 +31,13 @@ public class Position {
         return z;
     }
 
+    /**
+     * Prüft, ob ein Koordinatenwert endlich ist und innerhalb der Welt liegt.
+     */
+    public static boolean isWithinWorld(float value) {
+        return Math.abs(value) <= MAX_COORDINATE;
+    }
+
     @Override
     public String toString() {
         return String.format("Position(x=%.2f, y=%.2f, z=%.2f)", x, y, z);
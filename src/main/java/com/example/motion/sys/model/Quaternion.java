@@ -0,0 +1,168 @@
+package com.example.motion.sys.model;
+
+/**
+ * Repräsentiert eine Orientierung als Einheitsquaternion (w, x, y, z).
+ * Die Euler-Umrechnung verwendet die Reihenfolge Yaw (Y) - Pitch (X) - Roll (Z),
+ * Winkel werden wie bei {@link Rotation} in Grad angegeben.
+ */
+public final class Quaternion {
+    public static final Quaternion IDENTITY = new Quaternion(1, 0, 0, 0);
+
+    private static final float DEG_TO_HALF_RAD = (float) (Math.PI / 360.0);
+    private static final float SLERP_LINEAR_THRESHOLD = 0.9995f;
+
+    private final float w;
+    private final float x;
+    private final float y;
+    private final float z;
+
+    public Quaternion(float w, float x, float y, float z) {
+        this.w = w;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Erstellt ein Quaternion aus Euler-Winkeln in Grad.
+     */
+    public static Quaternion fromEuler(float pitch, float yaw, float roll) {
+        float hp = pitch * DEG_TO_HALF_RAD;
+        float hy = yaw * DEG_TO_HALF_RAD;
+        float hr = roll * DEG_TO_HALF_RAD;
+
+        float cp = (float) Math.cos(hp);
+        float sp = (float) Math.sin(hp);
+        float cy = (float) Math.cos(hy);
+        float sy = (float) Math.sin(hy);
+        float cr = (float) Math.cos(hr);
+        float sr = (float) Math.sin(hr);
+
+        return new Quaternion(
+            cy * cp * cr + sy * sp * sr,
+            cy * sp * cr + sy * cp * sr,
+            sy * cp * cr - cy * sp * sr,
+            cy * cp * sr - sy * sp * cr
+        );
+    }
+
+    /**
+     * Erstellt ein Quaternion, das nur eine Drehung um die Y-Achse (Yaw) beschreibt.
+     */
+    public static Quaternion fromYaw(float yaw) {
+        float hy = yaw * DEG_TO_HALF_RAD;
+        return new Quaternion((float) Math.cos(hy), 0, (float) Math.sin(hy), 0);
+    }
+
+    public float getW() {
+        return w;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public float getZ() {
+        return z;
+    }
+
+    public float dot(Quaternion other) {
+        return w * other.w + x * other.x + y * other.y + z * other.z;
+    }
+
+    /**
+     * Verknüpft zwei Orientierungen: zuerst {@code other}, dann diese.
+     */
+    public Quaternion multiply(Quaternion other) {
+        return new Quaternion(
+            w * other.w - x * other.x - y * other.y - z * other.z,
+            w * other.x + x * other.w + y * other.z - z * other.y,
+            w * other.y - x * other.z + y * other.w + z * other.x,
+            w * other.z + x * other.y - y * other.x + z * other.w
+        );
+    }
+
+    public Quaternion conjugate() {
+        return new Quaternion(w, -x, -y, -z);
+    }
+
+    public Quaternion normalize() {
+        float lengthSq = w * w + x * x + y * y + z * z;
+        if (lengthSq < 1.0e-12f) {
+            return IDENTITY;
+        }
+        float invLength = (float) (1.0 / Math.sqrt(lengthSq));
+        return new Quaternion(w * invLength, x * invLength, y * invLength, z * invLength);
+    }
+
+    /**
+     * Normalisierte lineare Interpolation entlang des kürzeren Bogens.
+     * Deutlich günstiger als {@link #slerp}, bei kleinen Winkeln praktisch identisch.
+     */
+    public static Quaternion nlerp(Quaternion start, Quaternion end, float factor) {
+        float sign = start.dot(end) < 0 ? -1.0f : 1.0f;
+        float inv = 1.0f - factor;
+        float f = factor * sign;
+        return new Quaternion(
+            start.w * inv + end.w * f,
+            start.x * inv + end.x * f,
+            start.y * inv + end.y * f,
+            start.z * inv + end.z * f
+        ).normalize();
+    }
+
+    /**
+     * Sphärische lineare Interpolation mit konstanter Winkelgeschwindigkeit.
+     * Fällt bei nahezu gleichen Orientierungen auf {@link #nlerp} zurück.
+     */
+    public static Quaternion slerp(Quaternion start, Quaternion end, float factor) {
+        float cosTheta = start.dot(end);
+        float sign = 1.0f;
+        if (cosTheta < 0) {
+            cosTheta = -cosTheta;
+            sign = -1.0f;
+        }
+
+        if (cosTheta > SLERP_LINEAR_THRESHOLD) {
+            return nlerp(start, end, factor);
+        }
+
+        double theta = Math.acos(cosTheta);
+        double invSinTheta = 1.0 / Math.sin(theta);
+        float s0 = (float) (Math.sin((1.0 - factor) * theta) * invSinTheta);
+        float s1 = (float) (Math.sin(factor * theta) * invSinTheta) * sign;
+
+        return new Quaternion(
+            start.w * s0 + end.w * s1,
+            start.x * s0 + end.x * s1,
+            start.y * s0 + end.y * s1,
+            start.z * s0 + end.z * s1
+        );
+    }
+
+    /**
+     * Wandelt das Quaternion zurück in Euler-Winkel (Grad, Yaw im Bereich -180..180).
+     */
+    public Rotation toRotation() {
+        float m12 = 2 * (y * z - w * x);
+        float m02 = 2 * (x * z + w * y);
+        float m22 = 1 - 2 * (x * x + y * y);
+        float m10 = 2 * (x * y + w * z);
+        float m11 = 1 - 2 * (x * x + z * z);
+
+        float pitch = (float) Math.toDegrees(Math.asin(Math.max(-1.0f, Math.min(1.0f, -m12))));
+        float yaw = (float) Math.toDegrees(Math.atan2(m02, m22));
+        float roll = (float) Math.toDegrees(Math.atan2(m10, m11));
+
+        return new Rotation(pitch, yaw, roll);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Quaternion(w=%.3f, x=%.3f, y=%.3f, z=%.3f)", w, x, y, z);
+    }
+}
@@ -8,6 +8,11 @@ public class Rotation {
     private final float y; // Yaw
     private final float z; // Roll
 
+    // Sinus/Kosinus des Yaw-Winkels, werden beim ersten Zugriff berechnet
+    private float yawSin;
+    private float yawCos;
+    private volatile boolean yawTrigCached;
+
     public Rotation(float x, float y, float z) {
         this.x = x;
         this.y = y;
@@ -38,6 +43,109 @@ public class Rotation {
         return z;
     }
 
+    /**
+     * Gibt den Sinus des Yaw-Winkels zurück (zwischengespeichert).
+     */
+    public float getYawSin() {
+        if (!yawTrigCached) {
+            cacheYawTrig();
+        }
+        return yawSin;
+    }
+
+    /**
+     * Gibt den Kosinus des Yaw-Winkels zurück (zwischengespeichert).
+     */
+    public float getYawCos() {
+        if (!yawTrigCached) {
+            cacheYawTrig();
+        }
+        return yawCos;
+    }
+
+    private void cacheYawTrig() {
+        double radians = Math.toRadians(y);
+        yawSin = (float) Math.sin(radians);
+        yawCos = (float) Math.cos(radians);
+        yawTrigCached = true;
+    }
+
+    /**
+     * Prüft, ob die Rotation nur aus einer Drehung um die Y-Achse besteht.
+     */
+    public boolean isHeadingOnly() {
+        return x == 0.0f && z == 0.0f;
+    }
+
+    /**
+     * Erstellt eine neue Rotation mit gleichem Yaw und geänderten Pitch/Roll-Werten.
+     * Der zwischengespeicherte Yaw-Sinus/-Kosinus wird übernommen.
+     */
+    public Rotation withPitchAndRoll(float pitch, float roll) {
+        Rotation rotation = new Rotation(pitch, y, roll);
+        if (yawTrigCached) {
+            rotation.yawSin = yawSin;
+            rotation.yawCos = yawCos;
+            rotation.yawTrigCached = true;
+        }
+        return rotation;
+    }
+
+    public Quaternion toQuaternion() {
+        if (isHeadingOnly()) {
+            return Quaternion.fromYaw(y);
+        }
+        return Quaternion.fromEuler(x, y, z);
+    }
+
+    /**
+     * Verknüpft diese Rotation mit einer weiteren (zuerst {@code other}, dann diese).
+     */
+    public Rotation compose(Rotation other) {
+        if (isHeadingOnly() && other.isHeadingOnly()) {
+            return new Rotation(0, wrapDegrees(y + other.y), 0);
+        }
+        return toQuaternion().multiply(other.toQuaternion()).toRotation();
+    }
+
+    /**
+     * Interpoliert zwischen zwei Rotationen entlang des kürzeren Bogens.
+     * Reine Yaw-Rotationen werden ohne Trigonometrie interpoliert, alle anderen über
+     * Quaternion-nlerp, sodass der Übergang bei ±180° korrekt ist.
+     *
+     * @param start Ausgangsrotation
+     * @param end Zielrotation
+     * @param factor Interpolationsfaktor (0-1)
+     * @return Interpolierte Rotation
+     */
+    public static Rotation interpolate(Rotation start, Rotation end, float factor) {
+        if (start.isHeadingOnly() && end.isHeadingOnly()) {
+            return new Rotation(0, lerpAngle(start.y, end.y, factor), 0);
+        }
+        return Quaternion.nlerp(start.toQuaternion(), end.toQuaternion(), factor).toRotation();
+    }
+
+    /**
+     * Interpoliert einen Winkel in Grad entlang des kürzeren Bogens.
+     */
+    public static float lerpAngle(float start, float end, float factor) {
+        float delta = wrapDegrees(end - start);
+        return wrapDegrees(start + delta * factor);
+    }
+
+    /**
+     * Normalisiert einen Winkel in Grad auf den Bereich (-180, 180].
+     */
+    public static float wrapDegrees(float degrees) {
+        float wrapped = degrees % 360.0f;
+        if (wrapped > 180.0f) {
+            wrapped -= 360.0f;
+        } else if (wrapped <= -180.0f) {
+            wrapped += 360.0f;
+        }
+        return wrapped;
+    }
+
     @Override
     public String toString() {
         return String.format("Rotation(pitch=%.2f, yaw=%.2f, roll=%.2f)", x, y, z);
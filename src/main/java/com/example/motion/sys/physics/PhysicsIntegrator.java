@@ -0,0 +1,228 @@
+package com.example.motion.sys.physics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Semi-impliziter Euler-Integrator für alle Charakterkörper.
+ * Position, Geschwindigkeit, Beschleunigung und Schwerkraftfaktor liegen als Structure of Arrays
+ * in primitiven Arrays; {@link #integrate(float)} ist eine einzige Zählschleife ohne Objektzugriffe
+ * und Verzweigungen, die der JIT vektorisieren kann.
+ *
+ * Jeder Charakter erhält beim ersten Zugriff einen festen Index, über den seine Geschwindigkeit
+ * von Tick zu Tick erhalten bleibt. Der Motion-Service setzt nur Position und Schwerkraftfaktor,
+ * da er Charaktere horizontal über Bewegungsbefehle verschiebt; {@link #setVelocity} und
+ * {@link #setAcceleration} sind für Körper gedacht, die allein der Integrator bewegt.
+ * Nicht threadsicher; gedacht für den Tick-Thread.
+ */
+public class PhysicsIntegrator {
+    public static final float GRAVITY = -9.81f;
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private final Map<UUID, Integer> indices;
+    private UUID[] ids;
+    private int size;
+
+    private float[] px;
+    private float[] py;
+    private float[] pz;
+    private float[] vx;
+    private float[] vy;
+    private float[] vz;
+    private float[] ax;
+    private float[] ay;
+    private float[] az;
+    private float[] gravityScale;
+
+    // Bodenhöhe und die Stelle, an der sie zuletzt abgefragt wurde
+    private float[] ground;
+    private float[] groundX;
+    private float[] groundZ;
+
+    public PhysicsIntegrator() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PhysicsIntegrator(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.indices = new HashMap<>();
+        this.ids = new UUID[capacity];
+        this.px = new float[capacity];
+        this.py = new float[capacity];
+        this.pz = new float[capacity];
+        this.vx = new float[capacity];
+        this.vy = new float[capacity];
+        this.vz = new float[capacity];
+        this.ax = new float[capacity];
+        this.ay = new float[capacity];
+        this.az = new float[capacity];
+        this.gravityScale = new float[capacity];
+        this.ground = new float[capacity];
+        this.groundX = new float[capacity];
+        this.groundZ = new float[capacity];
+    }
+
+    /**
+     * Liefert den Index des Körpers eines Charakters und legt ihn bei Bedarf an.
+     */
+    public int indexOf(UUID characterId) {
+        Integer index = indices.get(characterId);
+        if (index != null) {
+            return index;
+        }
+        if (size == ids.length) {
+            grow();
+        }
+        int created = size++;
+        ids[created] = characterId;
+        // NaN erzwingt eine Bodenabfrage beim ersten Tick
+        groundX[created] = Float.NaN;
+        groundZ[created] = Float.NaN;
+        indices.put(characterId, created);
+        return created;
+    }
+
+    /**
+     * Übernimmt eine von außen gesetzte Position, z.B. nach einer Bewegung durch die Layer.
+     */
+    public void setPosition(int index, float x, float y, float z) {
+        px[index] = x;
+        py[index] = y;
+        pz[index] = z;
+    }
+
+    public void setVelocity(int index, float x, float y, float z) {
+        vx[index] = x;
+        vy[index] = y;
+        vz[index] = z;
+    }
+
+    public void setAcceleration(int index, float x, float y, float z) {
+        ax[index] = x;
+        ay[index] = y;
+        az[index] = z;
+    }
+
+    public void setGravityScale(int index, float scale) {
+        gravityScale[index] = scale;
+    }
+
+    /**
+     * Integriert alle Körper um einen Zeitschritt: erst die Geschwindigkeit, dann die Position
+     * mit der neuen Geschwindigkeit (semi-impliziter Euler).
+     *
+     * @param deltaTime Zeitschritt in Sekunden
+     */
+    public void integrate(float deltaTime) {
+        for (int i = 0; i < size; i++) {
+            vx[i] += ax[i] * deltaTime;
+            vy[i] += (ay[i] + GRAVITY * gravityScale[i]) * deltaTime;
+            vz[i] += az[i] * deltaTime;
+            px[i] += vx[i] * deltaTime;
+            py[i] += vy[i] * deltaTime;
+            pz[i] += vz[i] * deltaTime;
+        }
+    }
+
+    /**
+     * Hält alle Körper über dem Boden. Die Bodenhöhe wird nur neu abgefragt, wenn sich ein
+     * Körper in der XZ-Ebene bewegt hat oder sich in der Luft befindet; landende Körper
+     * verlieren ihre abwärts gerichtete Geschwindigkeit.
+     *
+     * @param groundProvider Liefert die Bodenhöhe an (x, z) unterhalb von maxY
+     * @param stepHeight Höhe über den Füßen, bis zu der Oberflächen als Boden gelten
+     */
+    public void clampToGround(GroundProvider groundProvider, float stepHeight) {
+        for (int i = 0; i < size; i++) {
+            if (px[i] != groundX[i] || pz[i] != groundZ[i] || py[i] > ground[i]) {
+                ground[i] = groundProvider.groundHeight(px[i], pz[i], py[i] + stepHeight);
+                groundX[i] = px[i];
+                groundZ[i] = pz[i];
+            }
+            if (py[i] <= ground[i]) {
+                py[i] = ground[i];
+                vy[i] = Math.max(0, vy[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public UUID getId(int index) {
+        return ids[index];
+    }
+
+    public float getX(int index) {
+        return px[index];
+    }
+
+    public float getY(int index) {
+        return py[index];
+    }
+
+    public float getZ(int index) {
+        return pz[index];
+    }
+
+    public float getVelocityX(int index) {
+        return vx[index];
+    }
+
+    public float getVelocityY(int index) {
+        return vy[index];
+    }
+
+    public float getVelocityZ(int index) {
+        return vz[index];
+    }
+
+    public float getAccelerationX(int index) {
+        return ax[index];
+    }
+
+    /**
+     * Vertikale Beschleunigung einschließlich der skalierten Schwerkraft.
+     */
+    public float getAccelerationY(int index) {
+        return ay[index] + GRAVITY * gravityScale[index];
+    }
+
+    public float getAccelerationZ(int index) {
+        return az[index];
+    }
+
+    public float getGroundHeight(int index) {
+        return ground[index];
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        px = Arrays.copyOf(px, capacity);
+        py = Arrays.copyOf(py, capacity);
+        pz = Arrays.copyOf(pz, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        vz = Arrays.copyOf(vz, capacity);
+        ax = Arrays.copyOf(ax, capacity);
+        ay = Arrays.copyOf(ay, capacity);
+        az = Arrays.copyOf(az, capacity);
+        gravityScale = Arrays.copyOf(gravityScale, capacity);
+        ground = Arrays.copyOf(ground, capacity);
+        groundX = Arrays.copyOf(groundX, capacity);
+        groundZ = Arrays.copyOf(groundZ, capacity);
+    }
+
+    /**
+     * Quelle für Bodenhöhen, z.B. {@code CollisionWorld::groundHeight}.
+     */
+    @FunctionalInterface
+    public interface GroundProvider {
+        float groundHeight(float x, float z, float maxY);
+    }
+}
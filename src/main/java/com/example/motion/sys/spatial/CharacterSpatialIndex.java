@@ -0,0 +1,194 @@
+package com.example.motion.sys.spatial;
+
+import com.example.motion.sys.model.MotionState;
+import com.example.motion.sys.model.Position;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Räumlicher Index über die Positionen aller Charaktere.
+ * Der Tick-Thread baut den Index mit {@link #rebuild(Collection)} einmal pro Tick neu auf;
+ * Abfragen aus beliebigen Threads sehen den Stand des letzten Ticks und durchsuchen nur die
+ * betroffenen Zellen des {@link SpatialHashGrid}, nicht alle Zustände.
+ *
+ * Indizes, die an Visitor-Callbacks übergeben werden, gelten bis zum nächsten Neuaufbau.
+ */
+public class CharacterSpatialIndex {
+
+    private final SpatialHashGrid grid;
+    private final ReentrantReadWriteLock indexLock;
+    private MotionState[] states;
+
+    // Ausdehnung aller Einträge, begrenzt die Suche nach den nächsten Nachbarn
+    private float minX;
+    private float minZ;
+    private float maxX;
+    private float maxZ;
+
+    /**
+     * @param cellSize Zellgröße des Grids, z.B. doppelter Kollisionsradius
+     */
+    public CharacterSpatialIndex(float cellSize) {
+        this.grid = new SpatialHashGrid(cellSize);
+        this.indexLock = new ReentrantReadWriteLock();
+        this.states = new MotionState[0];
+    }
+
+    /**
+     * Baut den Index aus den aktuellen Zuständen neu auf.
+     */
+    public void rebuild(Collection<MotionState> currentStates) {
+        try {
+            indexLock.writeLock().lock();
+            grid.clear();
+            int capacity = currentStates.size();
+            if (states.length < capacity) {
+                states = new MotionState[Math.max(capacity, states.length * 2)];
+            }
+
+            minX = minZ = Float.POSITIVE_INFINITY;
+            maxX = maxZ = Float.NEGATIVE_INFINITY;
+            int count = 0;
+            for (MotionState state : currentStates) {
+                // Die Zustandsmap kann während der Iteration wachsen
+                if (count == states.length) {
+                    break;
+                }
+                Position position = state.getPosition();
+                float x = position.getX();
+                float z = position.getZ();
+                states[count++] = state;
+                grid.add(state.getCharacterId(), x, z);
+                minX = Math.min(minX, x);
+                minZ = Math.min(minZ, z);
+                maxX = Math.max(maxX, x);
+                maxZ = Math.max(maxZ, z);
+            }
+            Arrays.fill(states, count, states.length, null);
+            grid.build();
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Findet alle Charaktere innerhalb des Radius um (x, z).
+     */
+    public List<MotionState> findInRadius(float x, float z, float radius) {
+        List<MotionState> result = new ArrayList<>();
+        forEachInRadius(x, z, radius, index -> result.add(states[index]));
+        return result;
+    }
+
+    /**
+     * Findet alle Charaktere innerhalb des achsenparallelen Rechtecks.
+     */
+    public List<MotionState> findInBox(float minX, float minZ, float maxX, float maxZ) {
+        List<MotionState> result = new ArrayList<>();
+        try {
+            indexLock.readLock().lock();
+            grid.forEachInBox(minX, minZ, maxX, maxZ, index -> result.add(states[index]));
+        } finally {
+            indexLock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Findet die {@code count} nächsten Charaktere zu (x, z), sortiert nach Entfernung.
+     * Der Suchradius beginnt bei einer Zellgröße und wird verdoppelt, bis genügend Kandidaten
+     * gefunden sind oder alle Einträge abgedeckt werden.
+     */
+    public List<MotionState> findNearest(float x, float z, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        try {
+            indexLock.readLock().lock();
+            if (grid.size() == 0) {
+                return List.of();
+            }
+
+            // Größte Entfernung zu einem Eintrag; ab diesem Radius sind alle Einträge enthalten
+            float farX = Math.max(Math.abs(x - minX), Math.abs(x - maxX));
+            float farZ = Math.max(Math.abs(z - minZ), Math.abs(z - maxZ));
+            float coveringRadius = (float) Math.sqrt(farX * farX + farZ * farZ);
+
+            int wanted = Math.min(count, grid.size());
+            float radius = grid.getCellSize();
+            List<Integer> candidates = new ArrayList<>();
+            while (true) {
+                candidates.clear();
+                grid.forEachInRadius(x, z, radius, candidates::add);
+                if (candidates.size() >= wanted || radius >= coveringRadius) {
+                    break;
+                }
+                radius = Math.min(radius * 2, coveringRadius);
+            }
+
+            candidates.sort(Comparator.comparingDouble(index -> distanceSq(index, x, z)));
+            List<MotionState> result = new ArrayList<>(wanted);
+            for (int i = 0; i < wanted && i < candidates.size(); i++) {
+                result.add(states[candidates.get(i)]);
+            }
+            return result;
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Besucht alle Einträge innerhalb des Radius um (x, z) unter der Lesesperre.
+     */
+    public void forEachInRadius(float x, float z, float radius, SpatialHashGrid.EntryVisitor visitor) {
+        try {
+            indexLock.readLock().lock();
+            grid.forEachInRadius(x, z, radius, visitor);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Besucht alle Kandidatenpaare der Broadphase unter der Lesesperre.
+     */
+    public void forEachCandidatePair(SpatialHashGrid.PairVisitor visitor) {
+        try {
+            indexLock.readLock().lock();
+            grid.forEachCandidatePair(visitor);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        return grid.size();
+    }
+
+    public float getCellSize() {
+        return grid.getCellSize();
+    }
+
+    public MotionState getState(int index) {
+        return states[index];
+    }
+
+    public UUID getId(int index) {
+        return grid.getId(index);
+    }
+
+    public float getX(int index) {
+        return grid.getX(index);
+    }
+
+    public float getZ(int index) {
+        return grid.getZ(index);
+    }
+
+    private float distanceSq(int index, float x, float z) {
+        float dx = grid.getX(index) - x;
+        float dz = grid.getZ(index) - z;
+        return dx * dx + dz * dz;
+    }
+}
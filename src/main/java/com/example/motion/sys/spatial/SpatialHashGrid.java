@@ -0,0 +1,370 @@
+package com.example.motion.sys.spatial;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Uniformes Spatial-Hash-Grid über der XZ-Ebene für die Broadphase der Kollisionserkennung.
+ * Alle Einträge liegen in primitiven Arrays; {@link #build()} sortiert sie per Counting-Sort in
+ * Buckets, sodass Aufbau und Paarsuche in O(n) laufen. Das Grid wird pro Tick neu befüllt:
+ * {@link #clear()}, {@link #add} für alle Charaktere, dann {@link #build()}.
+ *
+ * Die Zellgröße sollte mindestens dem doppelten Kollisionsradius entsprechen, damit die
+ * 3x3-Nachbarschaft einer Zelle alle möglichen Partner enthält.
+ *
+ * Ist der belegte Zellbereich kompakt (höchstens {@value #DENSE_CELLS_PER_ENTRY} Zellen pro
+ * Eintrag), bildet {@link #build()} die Zellen direkt zeilenweise auf Buckets ab statt zu hashen.
+ * Benachbarte Zellen liegen dann auch im Speicher beieinander, und die Paarsuche läuft die
+ * Arrays sequenziell ab statt zufällig in Buckets zu springen.
+ *
+ * Nicht threadsicher; Aufrufer synchronisieren Aufbau und Abfragen.
+ */
+public class SpatialHashGrid {
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int HASH_X = 0x8da6b343;
+    private static final int HASH_Z = 0xd8163841;
+    private static final int DENSE_CELLS_PER_ENTRY = 8;
+
+    private final float cellSize;
+    private final float inverseCellSize;
+
+    private int size;
+    private UUID[] ids;
+    private float[] xs;
+    private float[] zs;
+    private int[] cellXs;
+    private int[] cellZs;
+    private int[] entryBuckets;
+
+    private int bucketMask;
+    private int bucketCount;
+    private int[] bucketStarts;
+    private int[] sortedEntries;
+    private int[] sortedCellXs;
+    private int[] sortedCellZs;
+
+    private boolean dense;
+    private int denseMinCellX;
+    private int denseMinCellZ;
+    private int denseWidth;
+    private int denseHeight;
+    private boolean built;
+
+    /**
+     * Erstellt ein Grid mit der angegebenen Zellgröße.
+     *
+     * @param cellSize Kantenlänge einer Zelle
+     */
+    public SpatialHashGrid(float cellSize) {
+        this(cellSize, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Erstellt ein Grid mit der angegebenen Zellgröße und Anfangskapazität.
+     *
+     * @param cellSize Kantenlänge einer Zelle
+     * @param initialCapacity Erwartete Anzahl von Einträgen
+     */
+    public SpatialHashGrid(float cellSize, int initialCapacity) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Zellgröße muss positiv sein: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1.0f / cellSize;
+
+        int capacity = Math.max(1, initialCapacity);
+        this.ids = new UUID[capacity];
+        this.xs = new float[capacity];
+        this.zs = new float[capacity];
+        this.cellXs = new int[capacity];
+        this.cellZs = new int[capacity];
+        this.entryBuckets = new int[capacity];
+        this.sortedEntries = new int[capacity];
+        this.sortedCellXs = new int[capacity];
+        this.sortedCellZs = new int[capacity];
+        this.bucketStarts = new int[2];
+    }
+
+    /**
+     * Entfernt alle Einträge; die Arrays bleiben für den nächsten Aufbau erhalten.
+     */
+    public void clear() {
+        Arrays.fill(ids, 0, size, null);
+        size = 0;
+        built = false;
+    }
+
+    /**
+     * Fügt einen Eintrag hinzu. Nach dem Hinzufügen muss {@link #build()} aufgerufen werden.
+     *
+     * @return Index des Eintrags
+     */
+    public int add(UUID id, float x, float z) {
+        if (size == ids.length) {
+            grow();
+        }
+        ids[size] = id;
+        xs[size] = x;
+        zs[size] = z;
+        built = false;
+        return size++;
+    }
+
+    /**
+     * Ordnet alle Einträge ihren Buckets zu (Counting-Sort in O(n)).
+     */
+    public void build() {
+        int minCellX = Integer.MAX_VALUE;
+        int minCellZ = Integer.MAX_VALUE;
+        int maxCellX = Integer.MIN_VALUE;
+        int maxCellZ = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            int cellX = cellCoord(xs[i]);
+            int cellZ = cellCoord(zs[i]);
+            cellXs[i] = cellX;
+            cellZs[i] = cellZ;
+            minCellX = Math.min(minCellX, cellX);
+            minCellZ = Math.min(minCellZ, cellZ);
+            maxCellX = Math.max(maxCellX, cellX);
+            maxCellZ = Math.max(maxCellZ, cellZ);
+        }
+
+        // Kompakte Belegung: ein Bucket pro Zelle, zeilenweise; sonst Hash über eine Zweierpotenz
+        long width = (long) maxCellX - minCellX + 1;
+        long height = (long) maxCellZ - minCellZ + 1;
+        dense = size > 0 && width * height <= (long) DENSE_CELLS_PER_ENTRY * size;
+        if (dense) {
+            denseMinCellX = minCellX;
+            denseMinCellZ = minCellZ;
+            denseWidth = (int) width;
+            denseHeight = (int) height;
+            bucketCount = denseWidth * denseHeight;
+        } else {
+            bucketCount = Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1;
+            bucketMask = bucketCount - 1;
+        }
+        if (bucketStarts.length < bucketCount + 1) {
+            bucketStarts = new int[bucketCount + 1];
+        } else {
+            Arrays.fill(bucketStarts, 0, bucketCount + 1, 0);
+        }
+
+        for (int i = 0; i < size; i++) {
+            int bucket = bucketOf(cellXs[i], cellZs[i]);
+            entryBuckets[i] = bucket;
+            bucketStarts[bucket + 1]++;
+        }
+        for (int b = 0; b < bucketCount; b++) {
+            bucketStarts[b + 1] += bucketStarts[b];
+        }
+
+        // Einträge stabil in die Buckets einsortieren; bucketStarts dient dabei als Schreibzeiger.
+        // Die Zellkoordinaten wandern mit, damit Abfragen sie sequenziell lesen
+        for (int i = 0; i < size; i++) {
+            int slot = bucketStarts[entryBuckets[i]]++;
+            sortedEntries[slot] = i;
+            sortedCellXs[slot] = cellXs[i];
+            sortedCellZs[slot] = cellZs[i];
+        }
+        // Schreibzeiger zurück auf die Bucket-Anfänge verschieben
+        for (int b = bucketCount; b > 0; b--) {
+            bucketStarts[b] = bucketStarts[b - 1];
+        }
+        bucketStarts[0] = 0;
+        built = true;
+    }
+
+    /**
+     * Besucht alle Einträge, deren Position innerhalb des Radius um (x, z) liegt.
+     */
+    public void forEachInRadius(float x, float z, float radius, EntryVisitor visitor) {
+        float radiusSq = radius * radius;
+        forEachInBox(x - radius, z - radius, x + radius, z + radius, index -> {
+            float dx = xs[index] - x;
+            float dz = zs[index] - z;
+            if (dx * dx + dz * dz <= radiusSq) {
+                visitor.visit(index);
+            }
+        });
+    }
+
+    /**
+     * Besucht alle Einträge innerhalb des achsenparallelen Rechtecks.
+     */
+    public void forEachInBox(float minX, float minZ, float maxX, float maxZ, EntryVisitor visitor) {
+        ensureBuilt();
+        int minCellX = cellCoord(minX);
+        int maxCellX = cellCoord(maxX);
+        int minCellZ = cellCoord(minZ);
+        int maxCellZ = cellCoord(maxZ);
+        if (dense) {
+            // Außerhalb des belegten Bereichs liegen keine Einträge
+            minCellX = Math.max(minCellX, denseMinCellX);
+            minCellZ = Math.max(minCellZ, denseMinCellZ);
+            maxCellX = Math.min(maxCellX, denseMinCellX + denseWidth - 1);
+            maxCellZ = Math.min(maxCellZ, denseMinCellZ + denseHeight - 1);
+        }
+
+        // Große Bereiche überdecken mehr Zellen als Buckets existieren: dann linear prüfen.
+        // Ausdehnungen in long rechnen, bei gesättigten Zellkoordinaten läuft int über
+        long cellsX = (long) maxCellX - minCellX + 1;
+        long cellsZ = (long) maxCellZ - minCellZ + 1;
+        if (cellsX > bucketCount || cellsZ > bucketCount || cellsX * cellsZ > bucketCount) {
+            for (int i = 0; i < size; i++) {
+                if (inBox(i, minX, minZ, maxX, maxZ)) {
+                    visitor.visit(i);
+                }
+            }
+            return;
+        }
+
+        // long-Zähler, damit die Schleife bei Integer.MAX_VALUE nicht überläuft
+        for (long cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (long cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                int cx = (int) cellX;
+                int cz = (int) cellZ;
+                int bucket = bucketOf(cx, cz);
+                for (int s = bucketStarts[bucket]; s < bucketStarts[bucket + 1]; s++) {
+                    int index = sortedEntries[s];
+                    // Ein Bucket kann mehrere Zellen enthalten; nur Einträge dieser Zelle melden
+                    if (sortedCellXs[s] == cx && sortedCellZs[s] == cz
+                            && inBox(index, minX, minZ, maxX, maxZ)) {
+                        visitor.visit(index);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Liefert alle Kandidatenpaare, deren Einträge in benachbarten Zellen liegen.
+     * Jedes Paar wird genau einmal gemeldet (mit {@code a < b}); die eigentliche
+     * Überlappungsprüfung (Narrowphase) ist Aufgabe des Aufrufers.
+     *
+     * Die Einträge werden in Bucket-Reihenfolge besucht. Pro Zelle reicht die halbe
+     * Nachbarschaft (eigene Zelle plus vier Nachbarn in Vorwärtsrichtung), da jedes Zellpaar
+     * sonst von beiden Seiten gefunden würde.
+     */
+    public void forEachCandidatePair(PairVisitor visitor) {
+        ensureBuilt();
+        for (int s = 0; s < size; s++) {
+            int a = sortedEntries[s];
+            int cellX = sortedCellXs[s];
+            int cellZ = sortedCellZs[s];
+
+            // Eigene Zelle: nur spätere Einträge desselben Buckets
+            int ownBucket = bucketOf(cellX, cellZ);
+            for (int t = s + 1; t < bucketStarts[ownBucket + 1]; t++) {
+                if (sortedCellXs[t] == cellX && sortedCellZs[t] == cellZ) {
+                    visitPair(visitor, a, sortedEntries[t]);
+                }
+            }
+            visitNeighbour(visitor, a, cellX + 1, cellZ);
+            visitNeighbour(visitor, a, cellX - 1, cellZ + 1);
+            visitNeighbour(visitor, a, cellX, cellZ + 1);
+            visitNeighbour(visitor, a, cellX + 1, cellZ + 1);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    public UUID getId(int index) {
+        return ids[index];
+    }
+
+    public float getX(int index) {
+        return xs[index];
+    }
+
+    public float getZ(int index) {
+        return zs[index];
+    }
+
+    private void visitNeighbour(PairVisitor visitor, int a, int neighbourX, int neighbourZ) {
+        int bucket = bucketOf(neighbourX, neighbourZ);
+        if (bucket < 0) {
+            return;
+        }
+        for (int t = bucketStarts[bucket]; t < bucketStarts[bucket + 1]; t++) {
+            if (sortedCellXs[t] == neighbourX && sortedCellZs[t] == neighbourZ) {
+                visitPair(visitor, a, sortedEntries[t]);
+            }
+        }
+    }
+
+    private static void visitPair(PairVisitor visitor, int a, int b) {
+        if (a < b) {
+            visitor.visit(a, b);
+        } else {
+            visitor.visit(b, a);
+        }
+    }
+
+    private boolean inBox(int index, float minX, float minZ, float maxX, float maxZ) {
+        float x = xs[index];
+        float z = zs[index];
+        return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+    }
+
+    private void ensureBuilt() {
+        if (!built) {
+            build();
+        }
+    }
+
+    private int cellCoord(float value) {
+        return (int) Math.floor(value * inverseCellSize);
+    }
+
+    /**
+     * Bucket der Zelle; im dichten Modus -1 für Zellen außerhalb des belegten Bereichs.
+     */
+    private int bucketOf(int cellX, int cellZ) {
+        if (dense) {
+            long localX = (long) cellX - denseMinCellX;
+            long localZ = (long) cellZ - denseMinCellZ;
+            if (localX < 0 || localX >= denseWidth || localZ < 0 || localZ >= denseHeight) {
+                return -1;
+            }
+            return (int) localX + (int) localZ * denseWidth;
+        }
+        int hash = cellX * HASH_X ^ cellZ * HASH_Z;
+        hash ^= hash >>> 16;
+        return hash & bucketMask;
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        zs = Arrays.copyOf(zs, capacity);
+        cellXs = Arrays.copyOf(cellXs, capacity);
+        cellZs = Arrays.copyOf(cellZs, capacity);
+        entryBuckets = Arrays.copyOf(entryBuckets, capacity);
+        sortedEntries = Arrays.copyOf(sortedEntries, capacity);
+        sortedCellXs = Arrays.copyOf(sortedCellXs, capacity);
+        sortedCellZs = Arrays.copyOf(sortedCellZs, capacity);
+    }
+
+    /**
+     * Callback für einzelne Einträge einer Abfrage.
+     */
+    @FunctionalInterface
+    public interface EntryVisitor {
+        void visit(int index);
+    }
+
+    /**
+     * Callback für Kandidatenpaare der Broadphase.
+     */
+    @FunctionalInterface
+    public interface PairVisitor {
+        void visit(int a, int b);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.motion.sys.time;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Leitet für Aufrufer, die nur eine Schrittweite kennen, fortlaufende Simulationszeitpunkte
+ * je Charakter ab. Tick und vergangene Zeit wachsen mit jedem Schritt, sodass zeitabhängige
+ * Oszillationen auch ohne {@link SimulationClock} fortschreiten.
+ */
+public final class DeltaTimeline {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final Map<UUID, SimulationTime> current = new ConcurrentHashMap<>();
+
+    /**
+     * Schreitet die Zeitlinie eines Charakters um einen Schritt voran.
+     *
+     * @param characterId ID des Charakters
+     * @param deltaSeconds Schrittweite in Sekunden
+     * @return Zeitpunkt nach dem Schritt
+     */
+    public SimulationTime advance(UUID characterId, float deltaSeconds) {
+        long deltaNanos = (long) (deltaSeconds * NANOS_PER_SECOND);
+        return current.compute(characterId, (id, previous) -> previous == null
+            ? new SimulationTime(1, deltaNanos, deltaNanos, Instant.EPOCH)
+            : new SimulationTime(previous.getTick() + 1, previous.getElapsedNanos() + deltaNanos,
+                deltaNanos, Instant.EPOCH));
+    }
+
+    /**
+     * Verwirft die Zeitlinie eines Charakters; der nächste Schritt beginnt wieder bei Tick 1.
+     */
+    public void reset(UUID characterId) {
+        current.remove(characterId);
+    }
+}
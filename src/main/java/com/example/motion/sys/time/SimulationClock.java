@@ -0,0 +1,80 @@
+package com.example.motion.sys.time;
+
+import java.time.Instant;
+
+/**
+ * Deterministische Simulationsuhr mit fester Schrittweite.
+ * Jeder Aufruf von {@link #advance()} erhöht den Tick-Index und die Simulationszeit um genau
+ * einen Schritt. Die Zeit hängt damit nur von der Anzahl der Ticks ab, nicht von der Wanduhr,
+ * sodass Läufe für Benchmarks und Replays reproduzierbar sind. Die Wanduhr wird nur einmal beim
+ * Erstellen gelesen, um {@link SimulationTime#toInstant()} zu verankern.
+ *
+ * Nur ein Thread (der Tick-Thread) sollte {@link #advance()} aufrufen; {@link #current()} ist
+ * von beliebigen Threads aus lesbar.
+ */
+public class SimulationClock {
+    public static final long DEFAULT_STEP_NANOS = 1_000_000_000L / 60;
+
+    private final long stepNanos;
+    private final Instant epoch;
+    private volatile SimulationTime current;
+
+    /**
+     * Erstellt eine Uhr mit 60 Ticks pro Sekunde.
+     */
+    public SimulationClock() {
+        this(DEFAULT_STEP_NANOS);
+    }
+
+    /**
+     * Erstellt eine Uhr mit der angegebenen Schrittweite.
+     *
+     * @param stepNanos Schrittweite eines Ticks in Nanosekunden
+     */
+    public SimulationClock(long stepNanos) {
+        this(stepNanos, Instant.now());
+    }
+
+    /**
+     * Erstellt eine Uhr mit fester Startzeit, z.B. für Replays.
+     *
+     * @param stepNanos Schrittweite eines Ticks in Nanosekunden
+     * @param epoch Wanduhrzeit, die Tick 0 entspricht
+     */
+    public SimulationClock(long stepNanos, Instant epoch) {
+        if (stepNanos <= 0) {
+            throw new IllegalArgumentException("Schrittweite muss positiv sein: " + stepNanos);
+        }
+        this.stepNanos = stepNanos;
+        this.epoch = epoch;
+        this.current = new SimulationTime(0, 0, stepNanos, epoch);
+    }
+
+    /**
+     * Schreitet um einen Tick voran.
+     *
+     * @return Zeitpunkt des neuen Ticks
+     */
+    public SimulationTime advance() {
+        SimulationTime previous = current;
+        long tick = previous.getTick() + 1;
+        SimulationTime next = new SimulationTime(tick, tick * stepNanos, stepNanos, epoch);
+        current = next;
+        return next;
+    }
+
+    /**
+     * Gibt den Zeitpunkt des zuletzt ausgeführten Ticks zurück.
+     */
+    public SimulationTime current() {
+        return current;
+    }
+
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    public float getStepSeconds() {
+        return stepNanos / 1_000_000_000.0f;
+    }
+}
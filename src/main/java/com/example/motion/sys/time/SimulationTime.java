@@ -0,0 +1,82 @@
+package com.example.motion.sys.time;
+
+import java.time.Instant;
+
+/**
+ * Unveränderlicher Zeitpunkt der Simulation, wie er von einer {@link SimulationClock}
+ * pro Tick erzeugt und durch die Verarbeitung gereicht wird.
+ * Enthält Tick-Index, monotone Simulationszeit und die Schrittweite des Ticks.
+ */
+public final class SimulationTime {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final float TWO_PI = (float) (2.0 * Math.PI);
+
+    private final long tick;
+    private final long elapsedNanos;
+    private final long deltaNanos;
+    private final Instant epoch;
+
+    // Wird beim ersten Zugriff aus epoch + elapsedNanos berechnet
+    private volatile Instant instant;
+
+    SimulationTime(long tick, long elapsedNanos, long deltaNanos, Instant epoch) {
+        this.tick = tick;
+        this.elapsedNanos = elapsedNanos;
+        this.deltaNanos = deltaNanos;
+        this.epoch = epoch;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000L;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / NANOS_PER_SECOND;
+    }
+
+    public long getDeltaNanos() {
+        return deltaNanos;
+    }
+
+    public float getDeltaSeconds() {
+        return (float) (deltaNanos / NANOS_PER_SECOND);
+    }
+
+    /**
+     * Berechnet die Phase eines Oszillators im Bereich [0, 2π).
+     * Entspricht {@code elapsedSeconds / secondsPerRadian}, wird aber in double reduziert,
+     * damit die Genauigkeit auch bei langen Laufzeiten erhalten bleibt.
+     *
+     * @param secondsPerRadian Zeit in Sekunden, in der die Phase um 1 rad fortschreitet
+     * @return Phase in Bogenmaß
+     */
+    public float phase(double secondsPerRadian) {
+        return (float) ((getElapsedSeconds() / secondsPerRadian) % TWO_PI);
+    }
+
+    /**
+     * Gibt den Zeitpunkt als Wanduhrzeit zurück (Startzeit der Uhr plus Simulationszeit).
+     */
+    public Instant toInstant() {
+        Instant result = instant;
+        if (result == null) {
+            result = epoch.plusNanos(elapsedNanos);
+            instant = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SimulationTime(tick=%d, elapsed=%.3fs, delta=%.4fs)",
+            tick, getElapsedSeconds(), getDeltaSeconds());
+    }
+}
@@ -0,0 +1,284 @@
+package com.example.motion.sys.world;
+
+import java.util.List;
+
+/**
+ * Bounding Volume Hierarchy über statischen {@link WorldBox}-Hindernissen.
+ * Knoten und Boxen liegen in flachen primitiven Arrays; die Boxen werden beim Aufbau in
+ * Blattreihenfolge umsortiert, sodass jedes Blatt einen zusammenhängenden Bereich belegt.
+ * Der Baum wird einmalig per Median-Split entlang der längsten Achse aufgebaut und ist danach
+ * unveränderlich, Abfragen sind daher ohne Synchronisation threadsicher.
+ */
+class AabbTree {
+    private static final int LEAF_SIZE = 4;
+    private static final int MAX_DEPTH = 64;
+
+    private final int size;
+    // Boxen in Blattreihenfolge, je 6 Werte: minX, minY, minZ, maxX, maxY, maxZ
+    private final float[] boxes;
+
+    private final float[] nodeBounds;
+    private final int[] nodeLeft;
+    private final int[] nodeStart;
+    private final int[] nodeCount;
+    private int nodes;
+
+    // Nur während des Aufbaus benötigt
+    private float[] source;
+    private int[] order;
+
+    AabbTree(List<WorldBox> worldBoxes) {
+        this.size = worldBoxes.size();
+        this.source = new float[size * 6];
+        this.order = new int[size];
+        for (int i = 0; i < size; i++) {
+            WorldBox box = worldBoxes.get(i);
+            int offset = i * 6;
+            source[offset] = box.getMinX();
+            source[offset + 1] = box.getMinY();
+            source[offset + 2] = box.getMinZ();
+            source[offset + 3] = box.getMaxX();
+            source[offset + 4] = box.getMaxY();
+            source[offset + 5] = box.getMaxZ();
+            order[i] = i;
+        }
+
+        int maxNodes = Math.max(1, 2 * size);
+        this.nodeBounds = new float[maxNodes * 6];
+        this.nodeLeft = new int[maxNodes];
+        this.nodeStart = new int[maxNodes];
+        this.nodeCount = new int[maxNodes];
+        this.boxes = new float[size * 6];
+
+        if (size > 0) {
+            nodes = 1;
+            build(0, 0, size);
+            for (int i = 0; i < size; i++) {
+                System.arraycopy(source, order[i] * 6, boxes, i * 6, 6);
+            }
+        }
+        source = null;
+        order = null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Liefert die höchste Oberkante aller Boxen, deren Grundfläche (x, z) enthält und deren
+     * Oberkante nicht über {@code maxY} liegt.
+     *
+     * @param floor Rückgabewert, falls keine höhere Oberkante gefunden wird
+     */
+    float highestTop(float x, float z, float maxY, float floor) {
+        if (size == 0) {
+            return floor;
+        }
+        float result = floor;
+        int[] stack = new int[MAX_DEPTH];
+        int top = 0;
+        stack[top++] = 0;
+
+        while (top > 0) {
+            int node = stack[--top];
+            int bounds = node * 6;
+            if (x < nodeBounds[bounds] || x > nodeBounds[bounds + 3]
+                    || z < nodeBounds[bounds + 2] || z > nodeBounds[bounds + 5]
+                    || nodeBounds[bounds + 1] > maxY || nodeBounds[bounds + 4] <= result) {
+                continue;
+            }
+
+            int left = nodeLeft[node];
+            if (left >= 0) {
+                stack[top++] = left;
+                stack[top++] = left + 1;
+                continue;
+            }
+
+            int end = nodeStart[node] + nodeCount[node];
+            for (int i = nodeStart[node]; i < end; i++) {
+                int offset = i * 6;
+                float boxTop = boxes[offset + 4];
+                if (boxTop > result && boxTop <= maxY
+                        && x >= boxes[offset] && x <= boxes[offset + 3]
+                        && z >= boxes[offset + 2] && z <= boxes[offset + 5]) {
+                    result = boxTop;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Bewegt einen aufrechten Zylinder (Radius, Höhe) mit Fußpunkt p entlang d und sucht den
+     * ersten Kontakt. Jede Box wird dazu um den Radius und die Höhe erweitert (Minkowski-Summe
+     * mit eckigen Kanten, also konservativ gegenüber einer Kapsel) und mit dem Fußpunkt als
+     * Strahl geschnitten. Boxen, in denen der Fußpunkt bereits steckt, werden ignoriert, damit
+     * sich Charaktere aus Überlappungen lösen können.
+     *
+     * @param hit Ausgabe: Anteil bis zum Kontakt und Normale (nx, ny, nz)
+     * @return true bei einem Treffer innerhalb der Bewegung
+     */
+    boolean sweep(float px, float py, float pz, float dx, float dy, float dz,
+                  float radius, float height, float[] hit) {
+        if (size == 0) {
+            return false;
+        }
+        float queryMinX = Math.min(px, px + dx) - radius;
+        float queryMaxX = Math.max(px, px + dx) + radius;
+        float queryMinY = Math.min(py, py + dy);
+        float queryMaxY = Math.max(py, py + dy) + height;
+        float queryMinZ = Math.min(pz, pz + dz) - radius;
+        float queryMaxZ = Math.max(pz, pz + dz) + radius;
+
+        float best = Float.POSITIVE_INFINITY;
+        int[] stack = new int[MAX_DEPTH];
+        int top = 0;
+        stack[top++] = 0;
+
+        while (top > 0) {
+            int node = stack[--top];
+            int bounds = node * 6;
+            if (queryMaxX < nodeBounds[bounds] || queryMinX > nodeBounds[bounds + 3]
+                    || queryMaxY < nodeBounds[bounds + 1] || queryMinY > nodeBounds[bounds + 4]
+                    || queryMaxZ < nodeBounds[bounds + 2] || queryMinZ > nodeBounds[bounds + 5]) {
+                continue;
+            }
+
+            int left = nodeLeft[node];
+            if (left >= 0) {
+                stack[top++] = left;
+                stack[top++] = left + 1;
+                continue;
+            }
+
+            int end = nodeStart[node] + nodeCount[node];
+            for (int i = nodeStart[node]; i < end; i++) {
+                int offset = i * 6;
+                float enter = Float.NEGATIVE_INFINITY;
+                float exit = Float.POSITIVE_INFINITY;
+                int axis = -1;
+                boolean separated = false;
+
+                for (int a = 0; a < 3 && !separated; a++) {
+                    float pad = a == 1 ? 0 : radius;
+                    float min = boxes[offset + a] - pad - (a == 1 ? height : 0);
+                    float max = boxes[offset + 3 + a] + pad;
+                    float p = a == 0 ? px : a == 1 ? py : pz;
+                    float d = a == 0 ? dx : a == 1 ? dy : dz;
+
+                    if (d == 0) {
+                        separated = p <= min || p >= max;
+                        continue;
+                    }
+                    float t1 = (min - p) / d;
+                    float t2 = (max - p) / d;
+                    float near = Math.min(t1, t2);
+                    float far = Math.max(t1, t2);
+                    if (near > enter) {
+                        enter = near;
+                        axis = a;
+                    }
+                    exit = Math.min(exit, far);
+                    separated = enter >= exit;
+                }
+
+                if (separated || axis < 0 || enter < 0 || enter > 1 || enter >= best) {
+                    continue;
+                }
+                best = enter;
+                float direction = axis == 0 ? dx : axis == 1 ? dy : dz;
+                hit[0] = enter;
+                hit[1] = axis == 0 ? -Math.signum(direction) : 0;
+                hit[2] = axis == 1 ? -Math.signum(direction) : 0;
+                hit[3] = axis == 2 ? -Math.signum(direction) : 0;
+            }
+        }
+        return best <= 1;
+    }
+
+    private void build(int node, int start, int end) {
+        int bounds = node * 6;
+        float centroidMinX = Float.POSITIVE_INFINITY, centroidMaxX = Float.NEGATIVE_INFINITY;
+        float centroidMinY = Float.POSITIVE_INFINITY, centroidMaxY = Float.NEGATIVE_INFINITY;
+        float centroidMinZ = Float.POSITIVE_INFINITY, centroidMaxZ = Float.NEGATIVE_INFINITY;
+        nodeBounds[bounds] = nodeBounds[bounds + 1] = nodeBounds[bounds + 2] = Float.POSITIVE_INFINITY;
+        nodeBounds[bounds + 3] = nodeBounds[bounds + 4] = nodeBounds[bounds + 5] = Float.NEGATIVE_INFINITY;
+
+        for (int i = start; i < end; i++) {
+            int offset = order[i] * 6;
+            for (int a = 0; a < 3; a++) {
+                nodeBounds[bounds + a] = Math.min(nodeBounds[bounds + a], source[offset + a]);
+                nodeBounds[bounds + 3 + a] = Math.max(nodeBounds[bounds + 3 + a], source[offset + 3 + a]);
+            }
+            float cx = centroid(order[i], 0);
+            float cy = centroid(order[i], 1);
+            float cz = centroid(order[i], 2);
+            centroidMinX = Math.min(centroidMinX, cx);
+            centroidMaxX = Math.max(centroidMaxX, cx);
+            centroidMinY = Math.min(centroidMinY, cy);
+            centroidMaxY = Math.max(centroidMaxY, cy);
+            centroidMinZ = Math.min(centroidMinZ, cz);
+            centroidMaxZ = Math.max(centroidMaxZ, cz);
+        }
+
+        if (end - start <= LEAF_SIZE) {
+            nodeLeft[node] = -1;
+            nodeStart[node] = start;
+            nodeCount[node] = end - start;
+            return;
+        }
+
+        float extentX = centroidMaxX - centroidMinX;
+        float extentY = centroidMaxY - centroidMinY;
+        float extentZ = centroidMaxZ - centroidMinZ;
+        int axis = extentX >= extentY && extentX >= extentZ ? 0 : extentY >= extentZ ? 1 : 2;
+
+        int mid = (start + end) >>> 1;
+        select(start, end - 1, mid, axis);
+
+        int left = nodes;
+        nodes += 2;
+        nodeLeft[node] = left;
+        build(left, start, mid);
+        build(left + 1, mid, end);
+    }
+
+    /**
+     * Quickselect: ordnet order[start..end] so, dass order[k] das k-te Element nach
+     * Schwerpunkt entlang der Achse ist und alle kleineren davor liegen.
+     */
+    private void select(int start, int end, int k, int axis) {
+        while (end > start) {
+            float pivot = centroid(order[(start + end) >>> 1], axis);
+            int i = start;
+            int j = end;
+            while (i <= j) {
+                while (centroid(order[i], axis) < pivot) {
+                    i++;
+                }
+                while (centroid(order[j], axis) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = order[i];
+                    order[i++] = order[j];
+                    order[j--] = swap;
+                }
+            }
+            if (k <= j) {
+                end = j;
+            } else if (k >= i) {
+                start = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private float centroid(int box, int axis) {
+        int offset = box * 6;
+        return (source[offset + axis] + source[offset + 3 + axis]) * 0.5f;
+    }
+}
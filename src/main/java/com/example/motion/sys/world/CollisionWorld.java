@@ -0,0 +1,101 @@
+package com.example.motion.sys.world;
+
+import com.example.motion.sys.model.Position;
+import com.example.motion.sys.model.Vector3D;
+
+import java.util.List;
+
+/**
+ * Statische Kollisionswelt aus achsenparallelen Hindernissen und einem optionalen Höhenraster.
+ * Die Hindernisse sind in einer Bounding Volume Hierarchy indiziert, sodass Boden- und
+ * Sweep-Abfragen logarithmisch in der Anzahl der Hindernisse bleiben. Außerhalb des
+ * Höhenrasters liegt der Boden auf {@link #BASE_GROUND_HEIGHT}.
+ *
+ * Die Welt ist nach dem Erstellen unveränderlich und kann von mehreren Threads gleichzeitig
+ * abgefragt werden.
+ */
+public class CollisionWorld {
+
+    /** Bodenhöhe ohne Höhenraster, entspricht dem bisherigen Verhalten der Layer. */
+    public static final float BASE_GROUND_HEIGHT = 0.0f;
+
+    /** Leere Welt: flacher Boden auf Höhe 0 ohne Hindernisse. */
+    public static final CollisionWorld EMPTY = new CollisionWorld(List.of(), null);
+
+    // Abstand, der bei einem Treffer vor der Oberfläche eingehalten wird
+    private static final float SKIN = 0.001f;
+
+    private final AabbTree tree;
+    private final Heightfield heightfield;
+
+    /**
+     * @param boxes Statische Hindernisse
+     * @param heightfield Höhenraster oder null für flachen Boden
+     */
+    public CollisionWorld(List<WorldBox> boxes, Heightfield heightfield) {
+        this.tree = new AabbTree(boxes);
+        this.heightfield = heightfield;
+    }
+
+    /**
+     * Liefert die höchste begehbare Oberfläche an (x, z).
+     */
+    public float groundHeight(float x, float z) {
+        return groundHeight(x, z, Float.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Liefert die höchste Oberfläche an (x, z), die nicht über {@code maxY} liegt.
+     * Damit werden Überhänge oberhalb eines Charakters nicht als Boden gewertet.
+     *
+     * @param maxY Höchste zulässige Oberfläche, z.B. Fußhöhe plus Stufenhöhe
+     * @return Bodenhöhe
+     */
+    public float groundHeight(float x, float z, float maxY) {
+        float terrain = BASE_GROUND_HEIGHT;
+        if (heightfield != null) {
+            float sampled = heightfield.sample(x, z);
+            if (!Float.isNaN(sampled)) {
+                terrain = sampled;
+            }
+        }
+        return tree.highestTop(x, z, maxY, terrain);
+    }
+
+    /**
+     * Bewegt einen aufrechten Charakterkörper von {@code from} nach {@code to} und liefert die
+     * erreichbare Position vor dem ersten Hindernis. Positionen bezeichnen den Fußpunkt.
+     * Das Höhenraster wird hier nicht berücksichtigt; dafür ist {@link #groundHeight} zuständig.
+     *
+     * @param radius Radius des Körpers
+     * @param height Höhe des Körpers
+     * @return Sweep-Ergebnis
+     */
+    public SweepResult sweepCapsule(Position from, Position to, float radius, float height) {
+        float dx = to.getX() - from.getX();
+        float dy = to.getY() - from.getY();
+        float dz = to.getZ() - from.getZ();
+        float[] hit = new float[4];
+
+        if (!tree.sweep(from.getX(), from.getY(), from.getZ(), dx, dy, dz, radius, height, hit)) {
+            return SweepResult.miss(to);
+        }
+
+        float length = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+        float fraction = length > 0 ? Math.max(0, hit[0] - SKIN / length) : 0;
+        Position position = new Position(
+            from.getX() + dx * fraction,
+            from.getY() + dy * fraction,
+            from.getZ() + dz * fraction
+        );
+        return new SweepResult(true, fraction, position, new Vector3D(hit[1], hit[2], hit[3]));
+    }
+
+    public int getBoxCount() {
+        return tree.size();
+    }
+
+    public Heightfield getHeightfield() {
+        return heightfield;
+    }
+}
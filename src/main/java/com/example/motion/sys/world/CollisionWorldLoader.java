@@ -0,0 +1,100 @@
+package com.example.motion.sys.world;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lädt eine {@link CollisionWorld} aus JSON.
+ *
+ * Format:
+ * <pre>
+ * {
+ *   "heightfield": {
+ *     "originX": 0, "originZ": 0, "spacing": 1,
+ *     "columns": 2, "rows": 2, "heights": [0, 0, 0.5, 0.5]
+ *   },
+ *   "boxes": [
+ *     { "min": [1, 0, 1], "max": [2, 1, 2] }
+ *   ]
+ * }
+ * </pre>
+ * Beide Einträge sind optional.
+ */
+public class CollisionWorldLoader {
+
+    private final ObjectMapper objectMapper;
+
+    public CollisionWorldLoader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Liest eine Welt aus dem Stream.
+     *
+     * @throws IOException wenn der Stream kein gültiges JSON enthält
+     * @throws IllegalArgumentException wenn die Weltbeschreibung unvollständig ist
+     */
+    public CollisionWorld load(InputStream input) throws IOException {
+        JsonNode root = objectMapper.readTree(input);
+        if (root == null || !root.isObject()) {
+            throw new IllegalArgumentException("Weltbeschreibung muss ein JSON-Objekt sein");
+        }
+
+        List<WorldBox> boxes = new ArrayList<>();
+        JsonNode boxesNode = root.path("boxes");
+        for (JsonNode boxNode : boxesNode) {
+            float[] min = readVector(boxNode, "min");
+            float[] max = readVector(boxNode, "max");
+            boxes.add(new WorldBox(min[0], min[1], min[2], max[0], max[1], max[2]));
+        }
+
+        Heightfield heightfield = null;
+        JsonNode heightfieldNode = root.get("heightfield");
+        if (heightfieldNode != null && !heightfieldNode.isNull()) {
+            heightfield = readHeightfield(heightfieldNode);
+        }
+
+        return new CollisionWorld(boxes, heightfield);
+    }
+
+    private Heightfield readHeightfield(JsonNode node) {
+        JsonNode heightsNode = require(node, "heights");
+        float[] heights = new float[heightsNode.size()];
+        for (int i = 0; i < heights.length; i++) {
+            heights[i] = (float) heightsNode.get(i).asDouble();
+        }
+        return new Heightfield(
+            (float) node.path("originX").asDouble(0),
+            (float) node.path("originZ").asDouble(0),
+            (float) require(node, "spacing").asDouble(),
+            require(node, "columns").asInt(),
+            require(node, "rows").asInt(),
+            heights
+        );
+    }
+
+    private float[] readVector(JsonNode node, String field) {
+        JsonNode vector = require(node, field);
+        if (!vector.isArray() || vector.size() != 3) {
+            throw new IllegalArgumentException("Feld '" + field + "' muss drei Koordinaten enthalten");
+        }
+        return new float[] {
+            (float) vector.get(0).asDouble(),
+            (float) vector.get(1).asDouble(),
+            (float) vector.get(2).asDouble()
+        };
+    }
+
+    private JsonNode require(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            throw new IllegalArgumentException("Pflichtfeld fehlt: " + field);
+        }
+        return value;
+    }
+}
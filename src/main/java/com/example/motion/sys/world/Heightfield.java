@@ -0,0 +1,90 @@
+package com.example.motion.sys.world;
+
+/**
+ * Regelmäßiges Höhenraster über der XZ-Ebene.
+ * Die Höhen liegen zeilenweise (Z) in einem primitiven Array; zwischen den Stützpunkten
+ * wird bilinear interpoliert.
+ */
+public class Heightfield {
+    private final float originX;
+    private final float originZ;
+    private final float spacing;
+    private final int columns;
+    private final int rows;
+    private final float[] heights;
+
+    /**
+     * @param originX X-Koordinate des ersten Stützpunkts
+     * @param originZ Z-Koordinate des ersten Stützpunkts
+     * @param spacing Abstand zwischen zwei Stützpunkten
+     * @param columns Anzahl der Stützpunkte in X-Richtung
+     * @param rows Anzahl der Stützpunkte in Z-Richtung
+     * @param heights Höhen, Index {@code row * columns + column}
+     */
+    public Heightfield(float originX, float originZ, float spacing, int columns, int rows, float[] heights) {
+        if (spacing <= 0) {
+            throw new IllegalArgumentException("Rasterabstand muss positiv sein: " + spacing);
+        }
+        if (columns < 2 || rows < 2) {
+            throw new IllegalArgumentException("Höhenraster benötigt mindestens 2x2 Stützpunkte");
+        }
+        if (heights.length != columns * rows) {
+            throw new IllegalArgumentException(String.format(
+                "Erwartet %d Höhenwerte, erhalten %d", columns * rows, heights.length));
+        }
+        this.originX = originX;
+        this.originZ = originZ;
+        this.spacing = spacing;
+        this.columns = columns;
+        this.rows = rows;
+        this.heights = heights.clone();
+    }
+
+    /**
+     * Liefert die interpolierte Höhe an (x, z).
+     *
+     * @return Höhe oder {@link Float#NaN}, wenn der Punkt außerhalb des Rasters liegt
+     */
+    public float sample(float x, float z) {
+        float gridX = (x - originX) / spacing;
+        float gridZ = (z - originZ) / spacing;
+        if (!(gridX >= 0 && gridZ >= 0 && gridX <= columns - 1 && gridZ <= rows - 1)) {
+            return Float.NaN;
+        }
+
+        int column = Math.min((int) gridX, columns - 2);
+        int row = Math.min((int) gridZ, rows - 2);
+        float fx = gridX - column;
+        float fz = gridZ - row;
+
+        int index = row * columns + column;
+        float h00 = heights[index];
+        float h10 = heights[index + 1];
+        float h01 = heights[index + columns];
+        float h11 = heights[index + columns + 1];
+
+        float near = h00 + (h10 - h00) * fx;
+        float far = h01 + (h11 - h01) * fx;
+        return near + (far - near) * fz;
+    }
+
+    public float getOriginX() {
+        return originX;
+    }
+
+    public float getOriginZ() {
+        return originZ;
+    }
+
+    public float getSpacing() {
+        return spacing;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+}
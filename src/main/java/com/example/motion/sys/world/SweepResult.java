@@ -0,0 +1,59 @@
+package com.example.motion.sys.world;
+
+import com.example.motion.sys.model.Position;
+import com.example.motion.sys.model.Vector3D;
+
+/**
+ * Ergebnis eines Sweep-Tests gegen die statische Welt.
+ */
+public class SweepResult {
+    private final boolean hit;
+    private final float fraction;
+    private final Position position;
+    private final Vector3D normal;
+
+    public SweepResult(boolean hit, float fraction, Position position, Vector3D normal) {
+        this.hit = hit;
+        this.fraction = fraction;
+        this.position = position;
+        this.normal = normal;
+    }
+
+    /**
+     * Ergebnis für eine Bewegung ohne Treffer.
+     */
+    public static SweepResult miss(Position target) {
+        return new SweepResult(false, 1.0f, target, null);
+    }
+
+    public boolean isHit() {
+        return hit;
+    }
+
+    /**
+     * Anteil der Bewegung (0-1), der bis zum ersten Kontakt zurückgelegt wird.
+     */
+    public float getFraction() {
+        return fraction;
+    }
+
+    /**
+     * Erreichbare Position (Fußpunkt) am Ende des Sweeps.
+     */
+    public Position getPosition() {
+        return position;
+    }
+
+    /**
+     * Flächennormale des getroffenen Hindernisses oder null ohne Treffer.
+     */
+    public Vector3D getNormal() {
+        return normal;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SweepResult(hit=%s, fraction=%.3f, position=%s, normal=%s)",
+            hit, fraction, position, normal);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.motion.sys.world;
+
+/**
+ * Achsenparalleles, statisches Hindernis der Kollisionswelt.
+ */
+public class WorldBox {
+    private final float minX;
+    private final float minY;
+    private final float minZ;
+    private final float maxX;
+    private final float maxY;
+    private final float maxZ;
+
+    public WorldBox(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        if (minX > maxX || minY > maxY || minZ > maxZ) {
+            throw new IllegalArgumentException(String.format(
+                "Ungültige Box: min=(%.2f, %.2f, %.2f), max=(%.2f, %.2f, %.2f)",
+                minX, minY, minZ, maxX, maxY, maxZ));
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    public float getMinX() {
+        return minX;
+    }
+
+    public float getMinY() {
+        return minY;
+    }
+
+    public float getMinZ() {
+        return minZ;
+    }
+
+    public float getMaxX() {
+        return maxX;
+    }
+
+    public float getMaxY() {
+        return maxY;
+    }
+
+    public float getMaxZ() {
+        return maxZ;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WorldBox(min=(%.2f, %.2f, %.2f), max=(%.2f, %.2f, %.2f))",
+            minX, minY, minZ, maxX, maxY, maxZ);
+    }
+}
@@ -1,13 +1,15 @@
 package com.example.motion.visual;
 
+import com.example.motion.interfaces.ViewerProximity;
 import com.example.motion.sys.model.MotionState;
 import com.example.motion.sys.model.Position;
+import com.example.motion.sys.time.SimulationClock;
+import com.example.motion.sys.time.SimulationTime;
 import com.example.motion.visual.animation.EasingFunctions;
 import com.example.motion.visual.animation.TransitionAnimator;
 import com.example.motion.visual.footstep.Footstep;
 import com.example.motion.visual.footstep.FootstepVisualizer;
 import com.example.motion.visual.particle.Particle;
-import com.example.motion.visual.particle.ParticleConfig;
 import com.example.motion.visual.particle.ParticleSystem;
 import lombok.Getter;
 import org.slf4j.Logger;
@@ -15,6 +17,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -26,19 +29,30 @@ import java.util.concurrent.TimeUnit;
 /**
  * Zentraler Controller für die Verwaltung aller visuellen Effekte.
  * Koordiniert Bewegungsübergänge, Fußspuren und Partikelsysteme.
+ *
+ * Ist eine {@link ViewerProximity} gesetzt, richtet sich der Detailgrad des Staubs nach dem
+ * Abstand zum nächsten Betrachter; Charaktere, die niemand sieht, erzeugen keinen Staub.
  */
 @Component
 public class VisualEffectsController {
     private static final Logger logger = LoggerFactory.getLogger(VisualEffectsController.class);
     private static final long UPDATE_INTERVAL_MS = 16; // ca. 60 FPS
+    // Bis zu diesem Abstand zum Betrachter volle Partikeldetails
+    private static final float FULL_DETAIL_DISTANCE = 15.0f;
+    // Ab diesem Abstand nur noch MIN_PARTICLE_DETAIL
+    private static final float MIN_DETAIL_DISTANCE = 120.0f;
+    private static final float MIN_PARTICLE_DETAIL = 0.2f;
     
     private final TransitionAnimator transitionAnimator;
     private final FootstepVisualizer footstepVisualizer;
     private final ParticleSystem particleSystem;
+    private final SimulationClock clock;
     
     private final ScheduledExecutorService updateScheduler;
     private final Map<UUID, String> characterLayerTypes;
     private final Map<UUID, UUID> characterDustEmitters;
+    // Abstand der Charaktere zu den Betrachtern; null, solange keiner gesetzt ist
+    private volatile ViewerProximity viewerProximity;
     
     @Getter
     private boolean enabled = true;
@@ -51,6 +65,7 @@ public class VisualEffectsController {
         this.transitionAnimator = new TransitionAnimator();
         this.footstepVisualizer = new FootstepVisualizer();
         this.particleSystem = new ParticleSystem();
+        this.clock = new SimulationClock(TimeUnit.MILLISECONDS.toNanos(UPDATE_INTERVAL_MS));
         
         this.updateScheduler = Executors.newSingleThreadScheduledExecutor();
         this.characterLayerTypes = new ConcurrentHashMap<>();
@@ -83,10 +98,10 @@ public class VisualEffectsController {
         }
         
         try {
-            float deltaTime = UPDATE_INTERVAL_MS / 1000.0f;
-            
-            // Partikel aktualisieren
-            particleSystem.update(deltaTime);
+            // Partikel und Übergänge mit dem nächsten Tick der Effekt-Uhr aktualisieren
+            SimulationTime time = clock.advance();
+            particleSystem.update(time);
+            transitionAnimator.update(time);
             
         } catch (Exception e) {
             logger.error("Fehler beim Update der visuellen Effekte", e);
@@ -126,7 +141,7 @@ public class VisualEffectsController {
     private void updateFootsteps(UUID characterId, String layerType, MotionState state) {
         // Erstelle nur Fußspuren, wenn sich der Charakter bewegt
         if (state.getSpeed() > 0.1f) {
-            footstepVisualizer.updateFootsteps(state, layerType);
+            footstepVisualizer.updateFootsteps(state, layerType, clock.current());
         }
     }
     
@@ -141,50 +156,20 @@ public class VisualEffectsController {
         UUID emitterId = characterDustEmitters.get(characterId);
         
         if (speed > 0.1f) {
-            // Erstelle einen neuen Emitter, falls noch keiner existiert
+            float detail = particleDetail(characterId, position);
+            
+            // Erstelle einen neuen Emitter, falls noch keiner existiert und jemand zusieht
             if (emitterId == null) {
+                if (detail <= 0) {
+                    return;
+                }
                 emitterId = particleSystem.createDustEmitter(characterId, position, speed, layerType);
                 characterDustEmitters.put(characterId, emitterId);
             }
             
-            // Konfiguriere den Emitter basierend auf Layer-Typ und Geschwindigkeit
-            ParticleConfig config = ParticleConfig.createDustConfig();
-            
-            // Anpassen der Emissionsrate basierend auf Geschwindigkeit
-            config.setEmissionRate(Math.min(10, Math.max(1, (int)(speed * 5))));
-            
-            // Anpassungen basierend auf Layer-Typ
-            switch (layerType) {
-                case "RunningLayer":
-                    // Mehr, größere und schnellere Partikel beim Laufen
-                    config.setEmissionRate(config.getEmissionRate() * 2);
-                    config.setParticleSize(0.1f, 0.3f);
-                    config.setParticleSpeed(0.8f, 1.5f);
-                    config.setColor(0.8f, 0.8f, 0.7f); // Hellerer Staub
-                    break;
-                    
-                case "AdvancedWalkingLayer":
-                    // Angepasste Partikel für fortgeschrittenes Gehen
-                    config.setEmissionRate(config.getEmissionRate() + 2);
-                    config.setParticleSize(0.08f, 0.25f);
-                    config.setParticleSpeed(0.5f, 1.2f);
-                    config.setColor(0.7f, 0.7f, 0.6f);
-                    break;
-                    
-                case "IdleLayer":
-                    // Fast keine Partikel im Idle-Zustand
-                    config.setEmissionRate(0);
-                    break;
-                    
-                default: // BasicWalkingLayer und andere
-                    // Standardwerte
-                    config.setParticleSpeed(0.3f, 0.8f);
-                    config.setColor(0.6f, 0.6f, 0.5f); // Bräunlicher Staub
-                    break;
-            }
-            
-            // Aktualisiere den Emitter
-            particleSystem.updateEmitter(emitterId, position, config);
+            // Aktualisiere den Emitter; die Definition für Layer-Typ und Geschwindigkeit
+            // ist im Partikelsystem vorberechnet
+            particleSystem.updateDustEmitter(emitterId, position, speed, layerType, detail);
         } else {
             // Wenn der Charakter still steht, entferne den Emitter
             if (emitterId != null) {
@@ -194,6 +179,30 @@ public class VisualEffectsController {
         }
     }
     
+    /**
+     * Detailgrad des Staubs aus dem Abstand zum nächsten Betrachter: 1 bis
+     * {@link #FULL_DETAIL_DISTANCE}, dann linear fallend bis {@link #MIN_PARTICLE_DETAIL}
+     * ab {@link #MIN_DETAIL_DISTANCE}, 0 ohne Betrachter.
+     */
+    private float particleDetail(UUID characterId, Position position) {
+        ViewerProximity viewers = viewerProximity;
+        if (viewers == null) {
+            return 1.0f;
+        }
+        float distance = viewers.nearestViewerDistance(characterId, position.getX(), position.getZ());
+        if (distance == Float.POSITIVE_INFINITY) {
+            return 0.0f;
+        }
+        if (distance <= FULL_DETAIL_DISTANCE) {
+            return 1.0f;
+        }
+        if (distance >= MIN_DETAIL_DISTANCE) {
+            return MIN_PARTICLE_DETAIL;
+        }
+        float t = (distance - FULL_DETAIL_DISTANCE) / (MIN_DETAIL_DISTANCE - FULL_DETAIL_DISTANCE);
+        return 1.0f - t * (1.0f - MIN_PARTICLE_DETAIL);
+    }
+    
     /**
      * Wird aufgerufen, wenn ein Charakter das aktive Layer wechselt.
      */
@@ -201,10 +210,7 @@ public class VisualEffectsController {
         logger.debug("Layer-Wechsel für Charakter {}: {} -> {}", characterId, oldLayerType, newLayerType);
         
         // Erzeuge einen Partikeleffekt für den Layer-Wechsel
-        ParticleConfig config = ParticleConfig.createLayerTransitionConfig(newLayerType);
-        UUID transitionEmitterId = UUID.randomUUID();
-        
-        particleSystem.updateEmitter(transitionEmitterId, state.getPosition(), config);
+        UUID transitionEmitterId = particleSystem.createLayerTransitionEmitter(state.getPosition(), newLayerType);
         
         // Plane das Entfernen des Emitters nach kurzer Zeit
         updateScheduler.schedule(() -> {
@@ -267,7 +273,8 @@ public class VisualEffectsController {
         }
         
         // Führe die Animation durch
-        transitionAnimator.animateTransition(fromState, toState, 600, easingType, onUpdate, onComplete);
+        transitionAnimator.animateTransition(fromState, toState, 600, easingType, clock.current(),
+            onUpdate, onComplete);
     }
     
     /**
@@ -289,6 +296,34 @@ public class VisualEffectsController {
         return particleSystem.getAllParticles();
     }
     
+    /**
+     * Kodiert die aktiven Partikel als binären Frame für den Partikel-Stream.
+     * 
+     * @return Lesebereiter Puffer mit dem Frame
+     */
+    public ByteBuffer encodeParticleFrame() {
+        return particleSystem.encodeFrame();
+    }
+    
+    /**
+     * Gibt die Metriken des Partikelsystems zurück.
+     * 
+     * @return Auslastung und Zähler verworfener Partikel
+     */
+    public ParticleSystem.ParticleStats getParticleStats() {
+        return particleSystem.getStats();
+    }
+    
+    /**
+     * Setzt die Quelle für den Abstand der Charaktere zu den Betrachtern. Ohne sie wird
+     * Staub für alle Charaktere mit vollem Detailgrad erzeugt.
+     * 
+     * @param viewerProximity Abstand zu den Betrachtern oder null
+     */
+    public void setViewerProximity(ViewerProximity viewerProximity) {
+        this.viewerProximity = viewerProximity;
+    }
+    
     /**
      * Aktiviert oder deaktiviert die visuellen Effekte.
      * 
@@ -3,30 +3,32 @@ package com.example.motion.visual.animation;
 import com.example.motion.sys.model.MotionState;
 import com.example.motion.sys.model.Position;
 import com.example.motion.sys.model.Rotation;
+import com.example.motion.sys.time.SimulationTime;
 import com.example.motion.visual.animation.EasingFunctions.EasingType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 /**
  * TransitionAnimator verwaltet interpolierte Übergänge zwischen verschiedenen Bewegungszuständen.
  * Dies erzeugt flüssigere und natürlichere Animationen beim Wechsel zwischen Lagen oder Bewegungen.
+ *
+ * Der Fortschritt richtet sich nach der Simulationszeit, nicht nach der Wanduhr: Der Besitzer
+ * ruft {@link #update(SimulationTime)} mit jedem Tick seiner Uhr auf, und die Callbacks laufen
+ * auf diesem Thread. Gleiche Tick-Folgen ergeben damit gleiche Zwischenzustände.
  */
 public class TransitionAnimator {
+    private static final Logger logger = LoggerFactory.getLogger(TransitionAnimator.class);
     private static final long DEFAULT_TRANSITION_DURATION = 600; // ms
-    private static final int DEFAULT_FPS = 60;
-    private static final int DEFAULT_THREAD_POOL_SIZE = 2;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
     
-    private final ScheduledExecutorService scheduler;
     private final ConcurrentHashMap<UUID, AnimationTask> activeTasks;
     
     public TransitionAnimator() {
-        this.scheduler = new ScheduledThreadPoolExecutor(DEFAULT_THREAD_POOL_SIZE);
         this.activeTasks = new ConcurrentHashMap<>();
     }
     
@@ -35,14 +37,15 @@ public class TransitionAnimator {
      *
      * @param fromState Ausgangszustand
      * @param toState Zielzustand
+     * @param startTime Simulationszeitpunkt, zu dem der Übergang beginnt
      * @param onUpdate Callback für Animation-Updates
      * @param onComplete Callback nach Abschluss der Animation
      * @return ID der Animation (kann zum Abbrechen verwendet werden)
      */
-    public String animateTransition(MotionState fromState, MotionState toState, 
+    public String animateTransition(MotionState fromState, MotionState toState, SimulationTime startTime,
                                    Consumer<MotionState> onUpdate, Runnable onComplete) {
         return animateTransition(fromState, toState, DEFAULT_TRANSITION_DURATION, EasingType.EASE_OUT_CUBIC, 
-                                onUpdate, onComplete);
+                                startTime, onUpdate, onComplete);
     }
     
     /**
@@ -52,12 +55,13 @@ public class TransitionAnimator {
      * @param toState Zielzustand
      * @param duration Dauer der Animation in Millisekunden
      * @param easingType Typ der Ease-Funktion für die Animation
+     * @param startTime Simulationszeitpunkt, zu dem der Übergang beginnt
      * @param onUpdate Callback für Animation-Updates
      * @param onComplete Callback nach Abschluss der Animation
      * @return ID der Animation (kann zum Abbrechen verwendet werden)
      */
     public String animateTransition(MotionState fromState, MotionState toState, 
-                                   long duration, EasingType easingType,
+                                   long duration, EasingType easingType, SimulationTime startTime,
                                    Consumer<MotionState> onUpdate, Runnable onComplete) {
         // Zuerst laufende Animation für diesen Charakter abbrechen
         cancelAnimation(fromState.getCharacterId());
@@ -72,37 +76,51 @@ public class TransitionAnimator {
             toState,
             duration,
             easingType,
+            startTime.getElapsedNanos(),
             onUpdate,
             onComplete
         );
         
-        // Animation starten
+        // Animation starten; der erste Zwischenzustand entsteht mit dem nächsten update
         activeTasks.put(fromState.getCharacterId(), task);
-        task.start();
         
         return animationId;
     }
     
+    /**
+     * Schreibt alle laufenden Animationen auf den angegebenen Simulationszeitpunkt fort.
+     *
+     * @param time Aktueller Zeitpunkt der Uhr, mit der die Übergänge gestartet wurden
+     */
+    public void update(SimulationTime time) {
+        for (Map.Entry<UUID, AnimationTask> entry : activeTasks.entrySet()) {
+            AnimationTask task = entry.getValue();
+            try {
+                if (task.update(time.getElapsedNanos())) {
+                    activeTasks.remove(entry.getKey(), task);
+                }
+            } catch (RuntimeException e) {
+                // Ein fehlerhafter Callback soll die übrigen Übergänge nicht aufhalten
+                activeTasks.remove(entry.getKey(), task);
+                logger.error("Übergang {} abgebrochen", task.id, e);
+            }
+        }
+    }
+    
     /**
      * Bricht eine laufende Animation für einen Charakter ab.
      *
      * @param characterId ID des Charakters
      */
     public void cancelAnimation(UUID characterId) {
-        AnimationTask task = activeTasks.get(characterId);
-        if (task != null) {
-            task.cancel();
-            activeTasks.remove(characterId);
-        }
+        activeTasks.remove(characterId);
     }
     
     /**
      * Beendet alle laufenden Animationen und bereinigt Ressourcen.
      */
     public void shutdown() {
-        activeTasks.values().forEach(AnimationTask::cancel);
         activeTasks.clear();
-        scheduler.shutdown();
     }
     
     /**
@@ -121,14 +139,8 @@ public class TransitionAnimator {
             startPos.getZ() + (endPos.getZ() - startPos.getZ()) * easedFactor
         );
         
-        // Rotation interpolieren
-        Rotation startRot = start.getRotation();
-        Rotation endRot = end.getRotation();
-        Rotation interpolatedRot = new Rotation(
-            startRot.getPitch() + (endRot.getPitch() - startRot.getPitch()) * easedFactor,
-            startRot.getYaw() + (endRot.getYaw() - startRot.getYaw()) * easedFactor,
-            startRot.getRoll() + (endRot.getRoll() - startRot.getRoll()) * easedFactor
-        );
+        // Rotation entlang des kürzeren Bogens interpolieren
+        Rotation interpolatedRot = Rotation.interpolate(start.getRotation(), end.getRotation(), easedFactor);
         
         // Geschwindigkeit interpolieren
         float interpolatedSpeed = start.getSpeed() + (end.getSpeed() - start.getSpeed()) * easedFactor;
@@ -151,74 +163,55 @@ public class TransitionAnimator {
         private final MotionState endState;
         private final long duration;
         private final EasingType easingType;
+        // Simulationszeit des Starts in Nanosekunden
+        private final long startNanos;
         private final Consumer<MotionState> onUpdate;
         private final Runnable onComplete;
         
-        private ScheduledFuture<?> future;
-        private long startTime;
-        
         /**
          * Erstellt eine neue Animationsaufgabe.
          */
         public AnimationTask(String id, MotionState startState, MotionState endState, 
-                            long duration, EasingType easingType,
+                            long duration, EasingType easingType, long startNanos,
                             Consumer<MotionState> onUpdate, Runnable onComplete) {
             this.id = id;
             this.startState = startState;
             this.endState = endState;
             this.duration = duration;
             this.easingType = easingType;
+            this.startNanos = startNanos;
             this.onUpdate = onUpdate;
             this.onComplete = onComplete;
         }
         
-        /**
-         * Startet die Animation.
-         */
-        public void start() {
-            startTime = System.currentTimeMillis();
-            long frameInterval = 1000 / DEFAULT_FPS;
-            
-            future = scheduler.scheduleAtFixedRate(this::update, 0, frameInterval, TimeUnit.MILLISECONDS);
-        }
-        
         /**
          * Aktualisiert den Animationszustand.
+         *
+         * @param elapsedNanos Aktuelle Simulationszeit in Nanosekunden
+         * @return true, wenn die Animation abgeschlossen ist
          */
-        private void update() {
-            long currentTime = System.currentTimeMillis();
-            long elapsedTime = currentTime - startTime;
+        private boolean update(long elapsedNanos) {
+            long elapsedTime = (elapsedNanos - startNanos) / NANOS_PER_MILLI;
             
             if (elapsedTime >= duration) {
                 // Animation ist abgeschlossen
                 onUpdate.accept(endState);
-                cancel();
                 
                 if (onComplete != null) {
                     onComplete.run();
                 }
-                
-                activeTasks.remove(startState.getCharacterId());
-                return;
+                return true;
             }
             
             // Faktor zwischen 0 und 1 berechnen
-            float factor = (float) elapsedTime / duration;
+            float factor = Math.max(0.0f, (float) elapsedTime / duration);
             
             // Interpolierten Zustand berechnen
             MotionState interpolatedState = interpolateState(startState, endState, factor, easingType);
             
             // Callback aufrufen
             onUpdate.accept(interpolatedState);
-        }
-        
-        /**
-         * Bricht die Animation ab.
-         */
-        public void cancel() {
-            if (future != null && !future.isDone()) {
-                future.cancel(false);
-            }
+            return false;
         }
     }
 }
@@ -3,7 +3,6 @@ package com.example.motion.visual.footstep;
 import com.example.motion.sys.model.Position;
 import lombok.Data;
 
-import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -12,8 +11,8 @@ import java.util.UUID;
  */
 @Data
 public class Footstep {
-    // Identifikation
-    private final UUID id;
+    // Identifikation; fortlaufend je Charakter
+    private final int id;
     private final UUID characterId;
     
     // Position und Orientierung
@@ -28,18 +27,18 @@ public class Footstep {
     private final String layerType; // Typ des Bewegungslayers, der diese Fußspur erzeugt hat
     
     // Lebensdauer
-    private final Instant creationTime;
-    private final long duration;    // Lebensdauer in Millisekunden
+    private final long creationTime; // Erstellungszeit in Simulations-Millisekunden
+    private final long duration;     // Lebensdauer in Millisekunden
     
     /**
      * Berechnet die aktuelle Opazität basierend auf der verstrichenen Zeit.
      * Die Fußspur wird mit der Zeit durchsichtiger.
      * 
+     * @param currentTime Aktuelle Simulationszeit in Millisekunden
      * @return Aktuelle Opazität zwischen 0.0 und dem initialen Opazitätswert
      */
-    public float getCurrentOpacity() {
-        Instant now = Instant.now();
-        long elapsedMillis = now.toEpochMilli() - creationTime.toEpochMilli();
+    public float getCurrentOpacity(long currentTime) {
+        long elapsedMillis = currentTime - creationTime;
         
         if (elapsedMillis >= duration) {
             return 0.0f;
@@ -52,11 +51,11 @@ public class Footstep {
     /**
      * Berechnet den Prozentsatz der verbleibenden Lebensdauer.
      * 
+     * @param currentTime Aktuelle Simulationszeit in Millisekunden
      * @return Wert zwischen 0.0 (abgelaufen) und 1.0 (neu erstellt)
      */
-    public float getRemainingLifePercentage() {
-        Instant now = Instant.now();
-        long elapsedMillis = now.toEpochMilli() - creationTime.toEpochMilli();
+    public float getRemainingLifePercentage(long currentTime) {
+        long elapsedMillis = currentTime - creationTime;
         
         return Math.max(0.0f, Math.min(1.0f, 1.0f - ((float) elapsedMillis / duration)));
     }
@@ -64,12 +63,11 @@ public class Footstep {
     /**
      * Prüft, ob die Fußspur abgelaufen ist.
      * 
+     * @param currentTime Aktuelle Simulationszeit in Millisekunden
      * @return true wenn die Lebensdauer überschritten wurde
      */
-    public boolean isExpired() {
-        Instant now = Instant.now();
-        Instant expiryTime = creationTime.plusMillis(duration);
-        return now.isAfter(expiryTime);
+    public boolean isExpired(long currentTime) {
+        return currentTime - creationTime > duration;
     }
     
     /**
@@ -0,0 +1,134 @@
+package com.example.motion.visual.footstep;
+
+import com.example.motion.sys.model.Position;
+
+import java.util.UUID;
+
+/**
+ * Ringpuffer fester Größe für die Fußspuren eines Charakters, Structure-of-Arrays-Layout.
+ *
+ * Fußspuren liegen in Erstellungsreihenfolge ab {@code head}; eine neue überschreibt bei
+ * vollem Puffer die älteste. Abgelaufene Fußspuren werden vom Kopf her entfernt, solange die
+ * älteste abgelaufen ist. Da die Lebensdauer vom Layer abhängt, kann dahinter noch eine
+ * abgelaufene liegen; Leser überspringen sie.
+ *
+ * Nicht threadsicher; der Aufrufer synchronisiert.
+ */
+final class FootstepRing {
+
+    static final int LEFT_FOOT = 1;
+    // Bits oberhalb von LEFT_FOOT: Ordinalzahl des FootstepStyle
+    private static final int STYLE_SHIFT = 1;
+
+    final float[] x;
+    final float[] y;
+    final float[] z;
+    final float[] yaw;
+    final byte[] flags;
+    // Erstellungszeit in Simulations-Millisekunden
+    final long[] creationTime;
+    // Fortlaufende Nummer je Charakter
+    final int[] ids;
+    // Layer, das die Fußspur erzeugt hat
+    final String[] layerTypes;
+
+    private int head;
+    private int count;
+    private int nextId;
+    // Simulationszeit des letzten expire-Aufrufs
+    private long lastExpiry;
+
+    FootstepRing(int capacity) {
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.z = new float[capacity];
+        this.yaw = new float[capacity];
+        this.flags = new byte[capacity];
+        this.creationTime = new long[capacity];
+        this.ids = new int[capacity];
+        this.layerTypes = new String[capacity];
+    }
+
+    int size() {
+        return count;
+    }
+
+    /**
+     * Physischer Index der {@code i}-ältesten Fußspur.
+     */
+    int index(int i) {
+        int index = head + i;
+        return index < x.length ? index : index - x.length;
+    }
+
+    /**
+     * Fügt eine Fußspur hinzu; bei vollem Puffer wird die älteste überschrieben.
+     */
+    void add(float px, float py, float pz, float yawAngle, boolean leftFoot,
+             FootstepStyle style, String layerType, long now) {
+        int index;
+        if (count == x.length) {
+            index = head;
+            head = index(1);
+        } else {
+            index = index(count);
+            count++;
+        }
+        x[index] = px;
+        y[index] = py;
+        z[index] = pz;
+        yaw[index] = yawAngle;
+        flags[index] = (byte) ((leftFoot ? LEFT_FOOT : 0) | (style.ordinal() << STYLE_SHIFT));
+        creationTime[index] = now;
+        ids[index] = nextId++;
+        layerTypes[index] = layerType;
+    }
+
+    /**
+     * Entfernt die ältesten Fußspuren, solange sie abgelaufen sind.
+     */
+    void expire(long now) {
+        lastExpiry = now;
+        while (count > 0 && isExpired(head, now)) {
+            layerTypes[head] = null;
+            head = index(1);
+            count--;
+        }
+    }
+
+    long lastExpiry() {
+        return lastExpiry;
+    }
+
+    boolean isLeftFoot(int index) {
+        return (flags[index] & LEFT_FOOT) != 0;
+    }
+
+    FootstepStyle style(int index) {
+        return FootstepStyle.ofOrdinal(flags[index] >>> STYLE_SHIFT);
+    }
+
+    boolean isExpired(int index, long now) {
+        return now - creationTime[index] > style(index).duration;
+    }
+
+    /**
+     * Erzeugt eine Objektkopie der Fußspur am physischen Index.
+     */
+    Footstep toFootstep(UUID characterId, int index) {
+        FootstepStyle style = style(index);
+        return new Footstep(
+            ids[index],
+            characterId,
+            new Position(x[index], y[index], z[index]),
+            yaw[index],
+            isLeftFoot(index),
+            style.width,
+            style.length,
+            style.opacity,
+            layerTypes[index],
+            creationTime[index],
+            style.duration
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.motion.visual.footstep;
+
+/**
+ * Abmessungen, Opazität und Lebensdauer der Fußspuren eines Bewegungslayers.
+ */
+enum FootstepStyle {
+    // BasicWalkingLayer und unbekannte Layer
+    DEFAULT(1.0f, 1.0f, 1.0f, 1.0f),
+    // Tiefere, aber schmalere Abdrücke beim Laufen mit kürzerer Dauer
+    RUNNING(0.8f, 1.2f, 1.2f, 0.8f),
+    // Detailliertere Abdrücke
+    ADVANCED(1.1f, 1.1f, 1.1f, 1.0f),
+    // Sollte nicht vorkommen, da im Idle keine Fußspuren entstehen
+    IDLE(0.5f, 0.5f, 0.5f, 1.0f);
+
+    private static final float FOOT_WIDTH = 0.25f;
+    private static final float FOOT_LENGTH = 0.45f;
+    private static final long FOOTSTEP_DURATION = 10000; // ms (Lebensdauer)
+
+    private static final FootstepStyle[] VALUES = values();
+
+    final float width;
+    final float length;
+    final float opacity;
+    final long duration;
+
+    FootstepStyle(float widthScale, float lengthScale, float opacityScale, float durationScale) {
+        this.width = FOOT_WIDTH * widthScale;
+        this.length = FOOT_LENGTH * lengthScale;
+        this.opacity = opacityScale;
+        this.duration = (long) (FOOTSTEP_DURATION * durationScale);
+    }
+
+    static FootstepStyle of(String layerType) {
+        switch (layerType) {
+            case "RunningLayer":
+                return RUNNING;
+            case "AdvancedWalkingLayer":
+                return ADVANCED;
+            case "IdleLayer":
+                return IDLE;
+            default:
+                return DEFAULT;
+        }
+    }
+
+    static FootstepStyle ofOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
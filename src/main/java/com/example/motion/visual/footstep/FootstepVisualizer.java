@@ -2,12 +2,12 @@ package com.example.motion.visual.footstep;
 
 import com.example.motion.sys.model.MotionState;
 import com.example.motion.sys.model.Position;
+import com.example.motion.sys.model.Rotation;
+import com.example.motion.sys.time.SimulationTime;
 import lombok.Data;
 
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -15,13 +15,14 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * FootstepVisualizer erstellt und verwaltet Fußspuren basierend auf Charakterbewegungen.
  * Fußspuren sind dynamisch und passen sich an das aktive Bewegungslayer an.
+ *
+ * Je Charakter liegen die Fußspuren als Primitive in einem {@link FootstepRing} fester Größe;
+ * Hinzufügen und Ablaufen sind O(1), {@link #forEachFootstep} liest ohne Allokationen.
+ * Zugriffe auf die Fußspuren eines Charakters sind je Charakter synchronisiert.
  */
 public class FootstepVisualizer {
     private static final int MAX_FOOTSTEPS_PER_CHARACTER = 20;
     private static final float DEFAULT_FOOT_STRIDE = 1.5f; // Abstand zwischen den Fußspuren
-    private static final float DEFAULT_FOOT_WIDTH = 0.25f;
-    private static final float DEFAULT_FOOT_LENGTH = 0.45f;
-    private static final long DEFAULT_FOOTSTEP_DURATION = 10000; // ms (Lebensdauer)
     
     private final ConcurrentHashMap<UUID, FootstepData> characterFootsteps;
     
@@ -37,40 +38,40 @@ public class FootstepVisualizer {
      * 
      * @param state Aktueller Bewegungszustand des Charakters
      * @param layerType Typ des aktuellen Bewegungslayers
-     * @return Liste der aktuellen Fußspuren zur Anzeige
+     * @param time Aktueller Simulationszeitpunkt
      */
-    public List<Footstep> updateFootsteps(MotionState state, String layerType) {
+    public void updateFootsteps(MotionState state, String layerType, SimulationTime time) {
+        long now = time.getElapsedMillis();
         UUID characterId = state.getCharacterId();
         Position currentPosition = state.getPosition();
         float speed = state.getSpeed();
-        float yawAngle = state.getRotation().getYaw(); 
+        Rotation rotation = state.getRotation();
         
         // Keine Fußspuren erstellen, wenn der Charakter sich nicht bewegt
         if (speed <= 0.01f) {
-            return getFootsteps(characterId);
+            return;
         }
         
         // Daten für diesen Charakter abrufen oder erstellen
         FootstepData data = characterFootsteps.computeIfAbsent(characterId, id -> new FootstepData());
         
-        // Aktualisiere die zurückgelegte Distanz
-        data.updateDistanceTraveled(currentPosition);
-        
-        // Prüfe, ob eine neue Fußspur erstellt werden sollte
-        float strideDistance = calculateStrideDistance(layerType, speed);
-        
-        if (data.getDistanceSinceLastFootstep() >= strideDistance) {
-            // Erstelle eine neue Fußspur
-            createNewFootstep(characterId, currentPosition, yawAngle, layerType, data);
-            // Setze die Distanz zurück
-            data.resetDistanceSinceLastFootstep();
+        synchronized (data) {
+            // Aktualisiere die zurückgelegte Distanz
+            data.updateDistanceTraveled(currentPosition);
+            
+            // Prüfe, ob eine neue Fußspur erstellt werden sollte
+            float strideDistance = calculateStrideDistance(layerType, speed);
+            
+            if (data.getDistanceSinceLastFootstep() >= strideDistance) {
+                // Erstelle eine neue Fußspur
+                createNewFootstep(currentPosition, rotation, layerType, data, now);
+                // Setze die Distanz zurück
+                data.resetDistanceSinceLastFootstep();
+            }
+            
+            // Alte Fußspuren vom Kopf des Rings entfernen
+            data.getFootsteps().expire(now);
         }
-        
-        // Führe Wartung durch (alte Fußspuren entfernen)
-        cleanupOldFootsteps(characterId);
-        
-        // Gib die aktuelle Liste der Fußspuren zurück
-        return getFootsteps(characterId);
     }
     
     /**
@@ -106,105 +107,83 @@ public class FootstepVisualizer {
     /**
      * Erstellt eine neue Fußspur an der aktuellen Position des Charakters.
      */
-    private void createNewFootstep(UUID characterId, Position position, float yawAngle, String layerType, FootstepData data) {
+    private void createNewFootstep(Position position, Rotation rotation, String layerType,
+                                   FootstepData data, long now) {
         boolean isLeftFoot = !data.isLastFootLeft();
         
-        // Berechne Footstep-Parameter basierend auf Layer-Typ
-        float width = DEFAULT_FOOT_WIDTH;
-        float length = DEFAULT_FOOT_LENGTH;
-        float opacity = 1.0f;
-        long duration = DEFAULT_FOOTSTEP_DURATION;
-        
-        switch (layerType) {
-            case "RunningLayer":
-                // Tiefere, aber schmalere Abdrücke beim Laufen
-                width *= 0.8f;
-                length *= 1.2f;
-                opacity *= 1.2f;
-                duration *= 0.8f; // Kürzere Dauer
-                break;
-            case "AdvancedWalkingLayer":
-                // Detailliertere Abdrücke
-                width *= 1.1f;
-                length *= 1.1f;
-                opacity *= 1.1f;
-                break;
-            case "IdleLayer":
-                // Sollte nicht vorkommen, da wir im Idle keine Fußspuren erstellen
-                width *= 0.5f;
-                length *= 0.5f;
-                opacity *= 0.5f;
-                break;
-            default: // BasicWalkingLayer und andere
-                // Standardwerte
-                break;
-        }
-        
         // Berechne Position des Fußes (leicht versetzt zur Seite)
         float sideOffset = isLeftFoot ? -0.2f : 0.2f;
         
-        // Berechne die tatsächliche Versetzung basierend auf der Rotation
-        float offsetX = (float) (Math.cos(Math.toRadians(yawAngle + 90)) * sideOffset);
-        float offsetZ = (float) (Math.sin(Math.toRadians(yawAngle + 90)) * sideOffset);
+        // Berechne die tatsächliche Versetzung senkrecht zur Blickrichtung
+        // (cos(yaw + 90°) = -sin(yaw), sin(yaw + 90°) = cos(yaw))
+        float offsetX = -rotation.getYawSin() * sideOffset;
+        float offsetZ = rotation.getYawCos() * sideOffset;
         
-        Position footPosition = new Position(
+        // Füge die Fußspur dem Ring hinzu; Abmessungen und Lebensdauer folgen aus dem Layer-Typ
+        data.getFootsteps().add(
             position.getX() + offsetX,
             position.getY(),
-            position.getZ() + offsetZ
-        );
-        
-        // Erstelle die Fußspur
-        Footstep footstep = new Footstep(
-            UUID.randomUUID(),
-            characterId,
-            footPosition,
-            yawAngle,
+            position.getZ() + offsetZ,
+            rotation.getYaw(),
             isLeftFoot,
-            width,
-            length,
-            opacity,
+            FootstepStyle.of(layerType),
             layerType,
-            Instant.now(),
-            duration
+            now
         );
-        
-        // Füge die Fußspur der Liste hinzu
-        data.addFootstep(footstep);
         data.setLastFootLeft(isLeftFoot);
     }
     
     /**
-     * Entfernt alte Fußspuren, die über ihre Lebensdauer hinaus sind.
+     * Gibt alle zum letzten Update nicht abgelaufenen Fußspuren für einen Charakter als
+     * Objektkopien zurück, älteste zuerst.
      */
-    private void cleanupOldFootsteps(UUID characterId) {
+    public List<Footstep> getFootsteps(UUID characterId) {
         FootstepData data = characterFootsteps.get(characterId);
         if (data == null) {
-            return;
+            return Collections.emptyList();
         }
         
-        Instant now = Instant.now();
-        Iterator<Footstep> iterator = data.getFootsteps().iterator();
-        
-        while (iterator.hasNext()) {
-            Footstep footstep = iterator.next();
-            Instant expiryTime = footstep.getCreationTime().plusMillis(footstep.getDuration());
-            
-            if (now.isAfter(expiryTime)) {
-                iterator.remove();
+        synchronized (data) {
+            FootstepRing ring = data.getFootsteps();
+            List<Footstep> footsteps = new ArrayList<>(ring.size());
+            for (int i = 0; i < ring.size(); i++) {
+                int index = ring.index(i);
+                if (!ring.isExpired(index, ring.lastExpiry())) {
+                    footsteps.add(ring.toFootstep(characterId, index));
+                }
             }
+            return footsteps;
         }
     }
     
     /**
-     * Gibt alle aktuellen Fußspuren für einen Charakter zurück.
+     * Besucht die nicht abgelaufenen Fußspuren eines Charakters, älteste zuerst, ohne
+     * Objekte zu erzeugen. Der Consumer läuft unter der Sperre des Charakters und sollte
+     * nicht blockieren.
+     * 
+     * @param characterId ID des Charakters
+     * @param now Aktuelle Simulationszeit in Millisekunden, gegen die ausgeblendet wird
+     * @param consumer Empfänger der Fußspuren
      */
-    public List<Footstep> getFootsteps(UUID characterId) {
+    public void forEachFootstep(UUID characterId, long now, FootstepConsumer consumer) {
         FootstepData data = characterFootsteps.get(characterId);
         if (data == null) {
-            return Collections.emptyList();
+            return;
         }
         
-        return new ArrayList<>(data.getFootsteps());
+        synchronized (data) {
+            FootstepRing ring = data.getFootsteps();
+            for (int i = 0; i < ring.size(); i++) {
+                int index = ring.index(i);
+                if (ring.isExpired(index, now)) {
+                    continue;
+                }
+                FootstepStyle style = ring.style(index);
+                float fadeFactor = 1.0f - (float) (now - ring.creationTime[index]) / style.duration;
+                consumer.accept(ring.x[index], ring.z[index], ring.yaw[index], style.width, style.length,
+                    style.opacity * Math.min(1.0f, fadeFactor), ring.isLeftFoot(index));
+            }
+        }
     }
     
     /**
@@ -221,12 +200,29 @@ public class FootstepVisualizer {
         characterFootsteps.clear();
     }
     
+    /**
+     * Empfänger einer Fußspur für {@link #forEachFootstep}.
+     */
+    @FunctionalInterface
+    public interface FootstepConsumer {
+        /**
+         * @param x Position in x
+         * @param z Position in z
+         * @param yawAngle Rotation um die Y-Achse in Grad
+         * @param width Breite des Fußabdrucks
+         * @param length Länge des Fußabdrucks
+         * @param opacity Aktuelle, mit dem Alter ausgeblendete Opazität
+         * @param leftFoot true für den linken Fuß
+         */
+        void accept(float x, float z, float yawAngle, float width, float length, float opacity, boolean leftFoot);
+    }
+    
     /**
      * Interne Klasse zur Speicherung der Fußspuren-Daten für einen Charakter.
      */
     @Data
     private static class FootstepData {
-        private final List<Footstep> footsteps = new ArrayList<>();
+        private final FootstepRing footsteps = new FootstepRing(MAX_FOOTSTEPS_PER_CHARACTER);
         private Position lastPosition = null;
         private float distanceSinceLastFootstep = 0.0f;
         private boolean lastFootLeft = false;
@@ -252,17 +248,5 @@ public class FootstepVisualizer {
         public void resetDistanceSinceLastFootstep() {
             distanceSinceLastFootstep = 0.0f;
         }
-        
-        /**
-         * Fügt eine neue Fußspur hinzu und entfernt ältere, wenn das Limit erreicht ist.
-         */
-        public void addFootstep(Footstep footstep) {
-            footsteps.add(footstep);
-            
-            // Halte die Anzahl der Fußspuren unter dem Limit
-            while (footsteps.size() > MAX_FOOTSTEPS_PER_CHARACTER) {
-                footsteps.remove(0);
-            }
-        }
     }
 }
@@ -0,0 +1,43 @@
+package com.example.motion.visual.particle;
+
+/**
+ * Unveränderliche Partikeleigenschaften eines Emitters, abgeleitet aus einer
+ * {@link ParticleConfig}. Emitter halten ihre Definition, sodass sie nicht bei jedem
+ * Update neu aufgebaut werden muss.
+ *
+ * @param emissionRate Partikel pro Sekunde bei kontinuierlichen Emittern, Burstgröße bei Burst-Emittern
+ * @param particleLifetime Lebensdauer der Partikel in Millisekunden
+ */
+record EmitterDefinition(
+    int emissionRate,
+    float minSize,
+    float maxSize,
+    float minSpeed,
+    float maxSpeed,
+    float spread,
+    long particleLifetime,
+    float gravity,
+    float red,
+    float green,
+    float blue,
+    float startAlpha,
+    float endAlpha
+) {
+
+    /**
+     * Übernimmt die aktuellen Werte einer Konfiguration; spätere Änderungen an der
+     * Konfiguration wirken nicht auf die Definition.
+     */
+    static EmitterDefinition of(ParticleConfig config) {
+        return new EmitterDefinition(
+            config.getEmissionRate(),
+            config.getMinSize(), config.getMaxSize(),
+            config.getMinSpeed(), config.getMaxSpeed(),
+            config.getSpread(),
+            config.getParticleLifetime(),
+            config.getGravity(),
+            config.getRed(), config.getGreen(), config.getBlue(),
+            config.getStartAlpha(), config.getEndAlpha()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.motion.visual.particle;
+
+/**
+ * Priorität eines Emitters. Ist der Partikelpool voll, verdrängen neue Partikel eines Emitters
+ * nur Partikel gleicher oder niedrigerer Priorität.
+ */
+enum EmitterPriority {
+    // Dauerhafte Umgebungseffekte wie Staub
+    LOW,
+    NORMAL,
+    // Einmalige, für den Spieler wichtige Effekte wie das Erreichen eines Ziels
+    HIGH
+}
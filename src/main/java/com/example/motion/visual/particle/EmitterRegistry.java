@@ -0,0 +1,133 @@
+package com.example.motion.visual.particle;
+
+import java.util.Map;
+
+/**
+ * Vorberechnete Emitter-Definitionen der eingebauten Effekte.
+ *
+ * Staub hängt vom Layer-Typ und der Geschwindigkeit des Charakters ab; die Geschwindigkeit
+ * wird in Stufen von 0,2 m/s eingeteilt, die der Grundrate in Partikeln pro Sekunde entsprechen.
+ * Alle Definitionen werden beim Laden der Klasse erzeugt, eine Abfrage ist ein Tabellenzugriff.
+ */
+final class EmitterRegistry {
+
+    // Unterhalb dieser Geschwindigkeit entsteht kein Staub
+    static final float MIN_DUST_SPEED = 0.1f;
+    private static final float DUST_SPEED_BUCKETS_PER_METER = 5.0f;
+    private static final int MAX_DUST_SPEED_BUCKET = 10;
+
+    private static final String[] LAYER_TYPES = {"RunningLayer", "AdvancedWalkingLayer", "IdleLayer"};
+    private static final String DEFAULT_LAYER_TYPE = "BasicWalkingLayer";
+
+    private static final Map<String, EmitterDefinition[]> DUST = Map.of(
+        LAYER_TYPES[0], dustDefinitions(LAYER_TYPES[0]),
+        LAYER_TYPES[1], dustDefinitions(LAYER_TYPES[1]),
+        LAYER_TYPES[2], dustDefinitions(LAYER_TYPES[2]));
+    private static final EmitterDefinition[] DEFAULT_DUST = dustDefinitions(DEFAULT_LAYER_TYPE);
+
+    private static final Map<String, EmitterDefinition> LAYER_TRANSITION = Map.of(
+        LAYER_TYPES[0], EmitterDefinition.of(ParticleConfig.createLayerTransitionConfig(LAYER_TYPES[0])),
+        LAYER_TYPES[1], EmitterDefinition.of(ParticleConfig.createLayerTransitionConfig(LAYER_TYPES[1])),
+        LAYER_TYPES[2], EmitterDefinition.of(ParticleConfig.createLayerTransitionConfig(LAYER_TYPES[2])));
+    private static final EmitterDefinition DEFAULT_LAYER_TRANSITION =
+        EmitterDefinition.of(ParticleConfig.createLayerTransitionConfig(DEFAULT_LAYER_TYPE));
+
+    static final EmitterDefinition GOAL_REACHED = goalReachedDefinition();
+
+    private EmitterRegistry() {
+    }
+
+    /**
+     * Liefert die Staubdefinition für einen Layer-Typ und eine Geschwindigkeit.
+     */
+    static EmitterDefinition dust(String layerType, float speed) {
+        EmitterDefinition[] bySpeed = layerType != null ? DUST.getOrDefault(layerType, DEFAULT_DUST) : DEFAULT_DUST;
+        return bySpeed[dustSpeedBucket(speed)];
+    }
+
+    /**
+     * Liefert die Definition des Bursts beim Wechsel in den angegebenen Layer-Typ.
+     */
+    static EmitterDefinition layerTransition(String layerType) {
+        return layerType != null
+            ? LAYER_TRANSITION.getOrDefault(layerType, DEFAULT_LAYER_TRANSITION)
+            : DEFAULT_LAYER_TRANSITION;
+    }
+
+    /**
+     * Stufe 0 steht für Stillstand, die Stufen 1 bis 10 für die Emissionsrate.
+     */
+    private static int dustSpeedBucket(float speed) {
+        if (speed < MIN_DUST_SPEED) {
+            return 0;
+        }
+        return Math.min(MAX_DUST_SPEED_BUCKET, Math.max(1, (int) (speed * DUST_SPEED_BUCKETS_PER_METER)));
+    }
+
+    private static EmitterDefinition[] dustDefinitions(String layerType) {
+        EmitterDefinition[] definitions = new EmitterDefinition[MAX_DUST_SPEED_BUCKET + 1];
+        for (int bucket = 0; bucket <= MAX_DUST_SPEED_BUCKET; bucket++) {
+            definitions[bucket] = EmitterDefinition.of(dustConfig(layerType, bucket));
+        }
+        return definitions;
+    }
+
+    private static ParticleConfig dustConfig(String layerType, int speedBucket) {
+        ParticleConfig config = ParticleConfig.createDustConfig();
+        
+        // Emissionsrate entsprechend der Geschwindigkeitsstufe
+        config.setEmissionRate(speedBucket);
+        
+        // Anpassungen basierend auf Layer-Typ
+        switch (layerType) {
+            case "RunningLayer":
+                // Mehr, größere und schnellere Partikel beim Laufen
+                config.setEmissionRate(config.getEmissionRate() * 2);
+                config.setParticleSize(0.1f, 0.3f);
+                config.setParticleSpeed(0.8f, 1.5f);
+                config.setColor(0.8f, 0.8f, 0.7f); // Hellerer Staub
+                break;
+                
+            case "AdvancedWalkingLayer":
+                // Angepasste Partikel für fortgeschrittenes Gehen
+                config.setEmissionRate(config.getEmissionRate() + 2);
+                config.setParticleSize(0.08f, 0.25f);
+                config.setParticleSpeed(0.5f, 1.2f);
+                config.setColor(0.7f, 0.7f, 0.6f);
+                break;
+                
+            case "IdleLayer":
+                // Fast keine Partikel im Idle-Zustand
+                config.setEmissionRate(0);
+                break;
+                
+            default: // BasicWalkingLayer und andere
+                // Standardwerte
+                config.setParticleSpeed(0.3f, 0.8f);
+                config.setColor(0.6f, 0.6f, 0.5f); // Bräunlicher Staub
+                break;
+        }
+        
+        // Kein Staub im Stillstand
+        if (speedBucket == 0) {
+            config.setEmissionRate(0);
+        }
+        return config;
+    }
+
+    private static EmitterDefinition goalReachedDefinition() {
+        ParticleConfig config = new ParticleConfig();
+        
+        config.setEmissionRate(0); // Einmaliger Burst
+        config.setParticleLifetime(2000);
+        config.setParticleSize(0.08f, 0.2f);
+        config.setParticleSpeed(0.5f, 2.0f);
+        config.setSpread(360.0f); // In alle Richtungen
+        config.setGravity(-0.02f); // Leicht aufsteigend
+        config.setStartAlpha(1.0f);
+        config.setEndAlpha(0.0f);
+        config.setColor(1.0f, 0.8f, 0.2f); // Goldenes Glitzern
+        
+        return EmitterDefinition.of(config);
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.motion.visual.particle;
 
 import lombok.Data;
-import java.util.UUID;
 
 /**
  * Repräsentiert ein einzelnes Partikel im Partikelsystem.
@@ -9,8 +8,8 @@ import java.util.UUID;
  */
 @Data
 public class Particle {
-    // Identifikation
-    private final UUID id;
+    // Identifikation; fortlaufend je Partikelsystem
+    private final int id;
     
     // Position
     private float x;
@@ -36,13 +35,13 @@ public class Particle {
     private final float blue;  // Blau-Komponente (0-1)
     
     // Lebensdauer
-    private final long creationTime; // Erstellungszeit in Millisekunden
+    private final long creationTime; // Erstellungszeit in Simulations-Millisekunden
     private final long lifetime;     // Lebensdauer in Millisekunden
     
     /**
      * Erstellt ein neues Partikel mit vollständigen Parametern.
      */
-    public Particle(UUID id, float x, float y, float z, 
+    public Particle(int id, float x, float y, float z, 
                    float velocityX, float velocityY, float velocityZ,
                    float accelerationX, float accelerationY, float accelerationZ,
                    float size, float startAlpha, float endAlpha,
@@ -89,11 +88,12 @@ public class Particle {
      * Berechnet die aktuelle Opazität basierend auf der verstrichenen Zeit.
      * Das Partikel wird mit der Zeit durchsichtiger.
      * 
+     * @param currentTime Aktuelle Simulationszeit in Millisekunden
      * @return Aktuelle Opazität zwischen 0.0 und 1.0
      */
-    public float getCurrentAlpha() {
+    public float getCurrentAlpha(long currentTime) {
         // Berechne den aktuellen Lebenszeitfaktor (0.0 bis 1.0)
-        float lifetimeFactor = getLifetimeProgress();
+        float lifetimeFactor = getLifetimeProgress(currentTime);
         
         // Interpoliere zwischen Start- und Endopazität
         return startAlpha + (endAlpha - startAlpha) * lifetimeFactor;
@@ -102,10 +102,10 @@ public class Particle {
     /**
      * Gibt den Fortschritt der Lebensdauer des Partikels zurück.
      * 
+     * @param currentTime Aktuelle Simulationszeit in Millisekunden
      * @return Wert zwischen 0.0 (neu erstellt) und 1.0 (Lebensdauer erreicht)
      */
-    public float getLifetimeProgress() {
-        long currentTime = System.currentTimeMillis();
+    public float getLifetimeProgress(long currentTime) {
         long elapsedTime = currentTime - creationTime;
         
         return Math.min(1.0f, (float) elapsedTime / lifetime);
@@ -114,20 +114,20 @@ public class Particle {
     /**
      * Prüft, ob das Partikel seine Lebensdauer überschritten hat.
      * 
+     * @param currentTime Aktuelle Simulationszeit in Millisekunden
      * @return true wenn die Lebensdauer überschritten wurde
      */
-    public boolean isExpired() {
-        long currentTime = System.currentTimeMillis();
+    public boolean isExpired(long currentTime) {
         return (currentTime - creationTime) >= lifetime;
     }
     
     /**
      * Gibt die verbleibende Lebensdauer in Millisekunden zurück.
      * 
+     * @param currentTime Aktuelle Simulationszeit in Millisekunden
      * @return Verbleibende Lebensdauer in Millisekunden, oder 0 wenn abgelaufen
      */
-    public long getRemainingLifetime() {
-        long currentTime = System.currentTimeMillis();
+    public long getRemainingLifetime(long currentTime) {
         long elapsedTime = currentTime - creationTime;
         
         return Math.max(0, lifetime - elapsedTime);
@@ -136,13 +136,14 @@ public class Particle {
     /**
      * Erstellt eine HTML/CSS-Farbdarstellung des Partikels.
      * 
+     * @param currentTime Aktuelle Simulationszeit in Millisekunden
      * @return CSS-Farbe im rgba-Format
      */
-    public String getCssColor() {
+    public String getCssColor(long currentTime) {
         int r = Math.min(255, Math.max(0, (int)(red * 255)));
         int g = Math.min(255, Math.max(0, (int)(green * 255)));
         int b = Math.min(255, Math.max(0, (int)(blue * 255)));
-        float a = getCurrentAlpha();
+        float a = getCurrentAlpha(currentTime);
         
         return String.format("rgba(%d, %d, %d, %.2f)", r, g, b, a);
     }
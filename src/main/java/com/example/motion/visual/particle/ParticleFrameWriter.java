@@ -0,0 +1,85 @@
+package com.example.motion.visual.particle;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Schreibt die Partikel eines Snapshots als binären Frame (Little Endian).
+ *
+ * <pre>
+ * Header:  u8 FRAME_PARTICLES, 3 Byte Füllung, u32 Simulationszeit (ms), u32 Anzahl n
+ * Daten:   f32 x[n], f32 y[n], f32 z[n], f32 vx[n], f32 vy[n], f32 vz[n], f32 ay[n], f32 size[n],
+ *          u16 age[n] (ms), u16 lifetime[n] (ms),
+ *          u8 red[n], u8 green[n], u8 blue[n], u8 startAlpha[n], u8 endAlpha[n]
+ * </pre>
+ *
+ * Jedes Attribut liegt als zusammenhängendes Array vor; der Header ist so gefüllt, dass die
+ * Arrays auf ihre Elementgröße ausgerichtet sind und der Client sie ohne Kopie als
+ * {@code Float32Array}/{@code Uint16Array}/{@code Uint8Array} lesen kann. Die Beschleunigung in
+ * x und z ist bei allen Emittern null und wird nicht übertragen. Alter und Lebensdauer werden
+ * auf 65535 ms begrenzt.
+ */
+final class ParticleFrameWriter {
+
+    static final byte FRAME_PARTICLES = 1;
+    static final int HEADER_SIZE = 12;
+    static final int BYTES_PER_PARTICLE = 8 * Float.BYTES + 2 * Short.BYTES + 5;
+
+    private static final int MAX_U16 = 0xFFFF;
+
+    private ParticleFrameWriter() {
+    }
+
+    /**
+     * Kodiert die lebenden Partikel eines Pools in einen neuen Puffer.
+     *
+     * @param timeMillis Simulationszeit des Snapshots; läuft nach 2^32 ms über
+     * @return Lesebereiter Puffer mit dem vollständigen Frame
+     */
+    static ByteBuffer write(ParticlePool particles, long timeMillis) {
+        int n = particles.size();
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_SIZE + n * BYTES_PER_PARTICLE).order(ByteOrder.LITTLE_ENDIAN);
+        frame.put(FRAME_PARTICLES);
+        frame.put((byte) 0).put((byte) 0).put((byte) 0);
+        frame.putInt((int) timeMillis);
+        frame.putInt(n);
+
+        putFloats(frame, particles.x, n);
+        putFloats(frame, particles.y, n);
+        putFloats(frame, particles.z, n);
+        putFloats(frame, particles.velocityX, n);
+        putFloats(frame, particles.velocityY, n);
+        putFloats(frame, particles.velocityZ, n);
+        putFloats(frame, particles.accelerationY, n);
+        putFloats(frame, particles.size, n);
+
+        for (int i = 0; i < n; i++) {
+            frame.putShort((short) Math.min(MAX_U16, Math.max(0, timeMillis - particles.creationTime[i])));
+        }
+        for (int i = 0; i < n; i++) {
+            frame.putShort((short) Math.min(MAX_U16, Math.max(0, particles.lifetime[i])));
+        }
+
+        putUnitBytes(frame, particles.red, n);
+        putUnitBytes(frame, particles.green, n);
+        putUnitBytes(frame, particles.blue, n);
+        putUnitBytes(frame, particles.startAlpha, n);
+        putUnitBytes(frame, particles.endAlpha, n);
+
+        return frame.flip();
+    }
+
+    private static void putFloats(ByteBuffer frame, float[] values, int n) {
+        frame.asFloatBuffer().put(values, 0, n);
+        frame.position(frame.position() + n * Float.BYTES);
+    }
+
+    /**
+     * Schreibt Werte zwischen 0 und 1 als u8 (0..255).
+     */
+    private static void putUnitBytes(ByteBuffer frame, float[] values, int n) {
+        for (int i = 0; i < n; i++) {
+            frame.put((byte) Math.round(Math.max(0.0f, Math.min(1.0f, values[i])) * 255));
+        }
+    }
+}
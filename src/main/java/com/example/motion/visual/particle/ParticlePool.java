@@ -0,0 +1,408 @@
+package com.example.motion.visual.particle;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Vorab allokierter Speicher für Partikel im Structure-of-Arrays-Layout.
+ *
+ * Jedes Attribut liegt in einem eigenen primitiven Array; ein Partikel ist ein Index
+ * kleiner {@link #size()}. Die lebenden Partikel liegen lückenlos am Anfang der Arrays:
+ * Entfernte Partikel werden durch das letzte ersetzt (Swap-Remove), die Reihenfolge
+ * bleibt also nicht erhalten. Emission und Update erzeugen keine Objekte.
+ *
+ * Je Emitter-Index führt der Pool Priorität, Budget und die Zahl lebender Partikel mit,
+ * sodass Budgets ohne Durchlauf über die Partikel geprüft werden können.
+ *
+ * Nicht threadsicher; der Aufrufer synchronisiert.
+ */
+final class ParticlePool {
+
+    // Fortlaufende Id je Partikel; bleibt beim Verschieben durch Swap-Remove erhalten
+    final int[] ids;
+    // Index des erzeugenden Emitters
+    final int[] emitters;
+
+    final float[] x;
+    final float[] y;
+    final float[] z;
+    final float[] velocityX;
+    final float[] velocityY;
+    final float[] velocityZ;
+    final float[] accelerationX;
+    final float[] accelerationY;
+    final float[] accelerationZ;
+
+    final float[] size;
+    final float[] startAlpha;
+    final float[] endAlpha;
+    final float[] red;
+    final float[] green;
+    final float[] blue;
+
+    // Erstellungszeit und Lebensdauer in Simulations-Millisekunden
+    final long[] creationTime;
+    final long[] lifetime;
+
+    // Emitter-Tabelle, indiziert mit dem Emitter-Index der Partikel
+    private int[] emitterCounts = new int[0];
+    private int[] emitterPriorities = new int[0];
+    private int[] emitterBudgets = new int[0];
+
+    // Zwischenspeicher für die Auswahl beim Verdrängen (Max-Heap nach Verdrängungsschlüssel)
+    private int[] victimIndices = new int[0];
+    private long[] victimKeys = new long[0];
+
+    private final int capacity;
+    private int count;
+    private int nextId;
+
+    /**
+     * @param capacity Maximale Anzahl gleichzeitig lebender Partikel
+     */
+    ParticlePool(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Kapazität darf nicht negativ sein: " + capacity);
+        }
+        this.capacity = capacity;
+        this.ids = new int[capacity];
+        this.emitters = new int[capacity];
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.z = new float[capacity];
+        this.velocityX = new float[capacity];
+        this.velocityY = new float[capacity];
+        this.velocityZ = new float[capacity];
+        this.accelerationX = new float[capacity];
+        this.accelerationY = new float[capacity];
+        this.accelerationZ = new float[capacity];
+        this.size = new float[capacity];
+        this.startAlpha = new float[capacity];
+        this.endAlpha = new float[capacity];
+        this.red = new float[capacity];
+        this.green = new float[capacity];
+        this.blue = new float[capacity];
+        this.creationTime = new long[capacity];
+        this.lifetime = new long[capacity];
+    }
+
+    int size() {
+        return count;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Legt Priorität und Budget eines Emitter-Index fest. Der Index darf keine lebenden
+     * Partikel mehr haben.
+     *
+     * @param priority Priorität; Partikel niedrigerer Priorität werden zuerst verdrängt
+     * @param budget Maximale Anzahl gleichzeitig lebender Partikel des Emitters
+     */
+    void registerEmitter(int emitter, int priority, int budget) {
+        if (emitter >= emitterCounts.length) {
+            int length = Math.max(emitter + 1, emitterCounts.length * 2);
+            emitterCounts = Arrays.copyOf(emitterCounts, length);
+            emitterPriorities = Arrays.copyOf(emitterPriorities, length);
+            emitterBudgets = Arrays.copyOf(emitterBudgets, length);
+        }
+        emitterCounts[emitter] = 0;
+        emitterPriorities[emitter] = priority;
+        emitterBudgets[emitter] = budget;
+    }
+
+    /**
+     * @return Anzahl der Partikel, die der Emitter noch erzeugen darf, bevor sein Budget erreicht ist
+     */
+    int remainingBudget(int emitter) {
+        return Math.max(0, emitterBudgets[emitter] - emitterCounts[emitter]);
+    }
+
+    int priority(int emitter) {
+        return emitterPriorities[emitter];
+    }
+
+    /**
+     * Reserviert einen Platz für ein neues Partikel. Der Aufrufer beschreibt anschließend
+     * alle Attribute am zurückgegebenen Index.
+     *
+     * @param emitter Index des erzeugenden Emitters
+     * @return Index des Partikels oder -1, wenn der Pool voll ist
+     */
+    int allocate(int emitter) {
+        if (count >= capacity) {
+            return -1;
+        }
+        int index = count++;
+        ids[index] = nextId++;
+        emitters[index] = emitter;
+        emitterCounts[emitter]++;
+        return index;
+    }
+
+    /**
+     * Entfernt bis zu {@code needed} Partikel, um Platz für einen Emitter der angegebenen
+     * Priorität zu schaffen. Verdrängt werden nur Partikel gleicher oder niedrigerer Priorität,
+     * zuerst die der niedrigsten Priorität und darunter die mit der kürzesten Restlebensdauer,
+     * also die am weitesten ausgeblendeten.
+     *
+     * @param now Aktuelle Simulationszeit in Millisekunden
+     * @return Anzahl der entfernten Partikel
+     */
+    int cull(int needed, int priority, long now) {
+        if (needed <= 0) {
+            return 0;
+        }
+        if (victimIndices.length < needed) {
+            victimIndices = new int[needed];
+            victimKeys = new long[needed];
+        }
+
+        // Ein Durchlauf; der Heap hält die needed kleinsten Schlüssel, die Wurzel ist der größte
+        int victims = 0;
+        for (int i = 0; i < count; i++) {
+            int particlePriority = emitterPriorities[emitters[i]];
+            if (particlePriority > priority) {
+                continue;
+            }
+            long remaining = Math.max(0, lifetime[i] - (now - creationTime[i]));
+            long key = ((long) particlePriority << 48) | Math.min(remaining, 0xFFFF_FFFF_FFFFL);
+            if (victims < needed) {
+                victimIndices[victims] = i;
+                victimKeys[victims] = key;
+                siftUp(victims++);
+            } else if (key < victimKeys[0]) {
+                victimIndices[0] = i;
+                victimKeys[0] = key;
+                siftDown(0, victims);
+            }
+        }
+
+        // Von hinten nach vorn entfernen, damit Swap-Remove keinen ausgewählten Index verschiebt
+        Arrays.sort(victimIndices, 0, victims);
+        for (int v = victims - 1; v >= 0; v--) {
+            remove(victimIndices[v]);
+        }
+        return victims;
+    }
+
+    /**
+     * Bewegt alle Partikel um einen Zeitschritt und entfernt die abgelaufenen.
+     *
+     * @param deltaTime Schrittweite in Sekunden
+     * @param now Aktuelle Simulationszeit in Millisekunden
+     */
+    void update(float deltaTime, long now) {
+        int i = 0;
+        while (i < count) {
+            if (now - creationTime[i] >= lifetime[i]) {
+                // Das nachgerückte Partikel wird im selben Durchlauf noch geprüft
+                remove(i);
+                continue;
+            }
+            velocityX[i] += accelerationX[i] * deltaTime;
+            velocityY[i] += accelerationY[i] * deltaTime;
+            velocityZ[i] += accelerationZ[i] * deltaTime;
+            x[i] += velocityX[i] * deltaTime;
+            y[i] += velocityY[i] * deltaTime;
+            z[i] += velocityZ[i] * deltaTime;
+            i++;
+        }
+    }
+
+    /**
+     * Wie {@link #update}, integriert die Partikel aber in Abschnitten von höchstens
+     * {@code chunkSize} auf dem übergebenen Pool. Die Abschnitte schreiben nur in ihren
+     * Indexbereich; abgelaufene Partikel werden danach in einem sequentiellen Durchlauf
+     * entfernt, da Swap-Remove die Belegung der Arrays verändert.
+     */
+    void update(float deltaTime, long now, ForkJoinPool executor, int chunkSize) {
+        executor.invoke(new IntegrateTask(0, count, deltaTime, chunkSize));
+        removeExpired(now);
+    }
+
+    private void integrate(int from, int to, float deltaTime) {
+        for (int i = from; i < to; i++) {
+            velocityX[i] += accelerationX[i] * deltaTime;
+            velocityY[i] += accelerationY[i] * deltaTime;
+            velocityZ[i] += accelerationZ[i] * deltaTime;
+            x[i] += velocityX[i] * deltaTime;
+            y[i] += velocityY[i] * deltaTime;
+            z[i] += velocityZ[i] * deltaTime;
+        }
+    }
+
+    private void removeExpired(long now) {
+        int i = 0;
+        while (i < count) {
+            if (now - creationTime[i] >= lifetime[i]) {
+                remove(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Entfernt alle Partikel eines Emitters.
+     */
+    void removeEmitter(int emitter) {
+        int i = 0;
+        while (i < count) {
+            if (emitters[i] == emitter) {
+                remove(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    void clear() {
+        count = 0;
+        Arrays.fill(emitterCounts, 0);
+    }
+
+    /**
+     * Übernimmt die lebenden Partikel eines anderen Pools gleicher Kapazität.
+     */
+    void copyFrom(ParticlePool source) {
+        int n = source.count;
+        System.arraycopy(source.ids, 0, ids, 0, n);
+        System.arraycopy(source.emitters, 0, emitters, 0, n);
+        System.arraycopy(source.x, 0, x, 0, n);
+        System.arraycopy(source.y, 0, y, 0, n);
+        System.arraycopy(source.z, 0, z, 0, n);
+        System.arraycopy(source.velocityX, 0, velocityX, 0, n);
+        System.arraycopy(source.velocityY, 0, velocityY, 0, n);
+        System.arraycopy(source.velocityZ, 0, velocityZ, 0, n);
+        System.arraycopy(source.accelerationX, 0, accelerationX, 0, n);
+        System.arraycopy(source.accelerationY, 0, accelerationY, 0, n);
+        System.arraycopy(source.accelerationZ, 0, accelerationZ, 0, n);
+        System.arraycopy(source.size, 0, size, 0, n);
+        System.arraycopy(source.startAlpha, 0, startAlpha, 0, n);
+        System.arraycopy(source.endAlpha, 0, endAlpha, 0, n);
+        System.arraycopy(source.red, 0, red, 0, n);
+        System.arraycopy(source.green, 0, green, 0, n);
+        System.arraycopy(source.blue, 0, blue, 0, n);
+        System.arraycopy(source.creationTime, 0, creationTime, 0, n);
+        System.arraycopy(source.lifetime, 0, lifetime, 0, n);
+        count = n;
+        nextId = source.nextId;
+    }
+
+    /**
+     * Erzeugt eine Objektkopie des Partikels am angegebenen Index.
+     */
+    Particle toParticle(int index) {
+        return new Particle(
+            ids[index],
+            x[index], y[index], z[index],
+            velocityX[index], velocityY[index], velocityZ[index],
+            accelerationX[index], accelerationY[index], accelerationZ[index],
+            size[index],
+            startAlpha[index],
+            endAlpha[index],
+            red[index], green[index], blue[index],
+            creationTime[index],
+            lifetime[index]
+        );
+    }
+
+    /**
+     * Entfernt das Partikel am Index, indem das letzte lebende Partikel an seine Stelle rückt.
+     */
+    private void remove(int index) {
+        emitterCounts[emitters[index]]--;
+        int last = --count;
+        if (index == last) {
+            return;
+        }
+        ids[index] = ids[last];
+        emitters[index] = emitters[last];
+        x[index] = x[last];
+        y[index] = y[last];
+        z[index] = z[last];
+        velocityX[index] = velocityX[last];
+        velocityY[index] = velocityY[last];
+        velocityZ[index] = velocityZ[last];
+        accelerationX[index] = accelerationX[last];
+        accelerationY[index] = accelerationY[last];
+        accelerationZ[index] = accelerationZ[last];
+        size[index] = size[last];
+        startAlpha[index] = startAlpha[last];
+        endAlpha[index] = endAlpha[last];
+        red[index] = red[last];
+        green[index] = green[last];
+        blue[index] = blue[last];
+        creationTime[index] = creationTime[last];
+        lifetime[index] = lifetime[last];
+    }
+
+    /**
+     * Teilt einen Indexbereich, bis er höchstens {@code chunkSize} Partikel umfasst.
+     */
+    private final class IntegrateTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final float deltaTime;
+        private final int chunkSize;
+
+        IntegrateTask(int from, int to, float deltaTime, int chunkSize) {
+            this.from = from;
+            this.to = to;
+            this.deltaTime = deltaTime;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                integrate(from, to, deltaTime);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new IntegrateTask(from, middle, deltaTime, chunkSize),
+                new IntegrateTask(middle, to, deltaTime, chunkSize));
+        }
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (victimKeys[parent] >= victimKeys[position]) {
+                return;
+            }
+            swapVictims(parent, position);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position, int size) {
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && victimKeys[child + 1] > victimKeys[child]) {
+                child++;
+            }
+            if (victimKeys[position] >= victimKeys[child]) {
+                return;
+            }
+            swapVictims(position, child);
+            position = child;
+        }
+    }
+
+    private void swapVictims(int a, int b) {
+        int index = victimIndices[a];
+        victimIndices[a] = victimIndices[b];
+        victimIndices[b] = index;
+        long key = victimKeys[a];
+        victimKeys[a] = victimKeys[b];
+        victimKeys[b] = key;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.motion.visual.particle;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lesekopie der Partikel nach einem Update.
+ *
+ * Der Update-Thread beschreibt einen Snapshot nur, solange er nicht veröffentlicht ist und
+ * kein Leser ihn hält. Leser melden sich mit {@link #acquire} an und mit {@link #release} ab;
+ * ein Snapshot, der beim nächsten Tausch noch gelesen wird, wird nicht wiederverwendet.
+ */
+final class ParticleSnapshot {
+
+    final ParticlePool particles;
+    // Simulationszeit des Updates, aus dem der Snapshot stammt
+    long timeMillis;
+
+    private final AtomicInteger readers = new AtomicInteger();
+
+    ParticleSnapshot(int capacity) {
+        this.particles = new ParticlePool(capacity);
+    }
+
+    void acquire() {
+        readers.incrementAndGet();
+    }
+
+    void release() {
+        readers.decrementAndGet();
+    }
+
+    boolean isInUse() {
+        return readers.get() != 0;
+    }
+}
@@ -1,27 +1,100 @@
 package com.example.motion.visual.particle;
 
+import com.example.motion.sys.math.FastMath;
 import com.example.motion.sys.model.Position;
-import lombok.Getter;
+import com.example.motion.sys.time.SimulationTime;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 
 /**
  * Verwaltet und rendert Partikelsysteme für visuelle Effekte wie Staub beim Laufen
  * oder Glitzereffekte bei Zielerfassung.
+ *
+ * Die Partikel aller Emitter liegen gemeinsam in einem vorab allokierten {@link ParticlePool};
+ * Emitter sind nur ein Index, den jedes Partikel mitführt. Jeder Emitter hält seine
+ * {@link EmitterDefinition}; die Definitionen der eingebauten Effekte stammen aus der
+ * {@link EmitterRegistry}.
+ *
+ * Kontinuierliche Emitter wie Staub erzeugen ihre Emissionsrate als Partikel pro Sekunde
+ * Simulationszeit. Jedes Update addiert {@code Rate * Schrittweite} auf einen Akkumulator und
+ * erzeugt dessen ganzzahligen Anteil; die Partikellast hängt damit nicht davon ab, wie oft
+ * ein Emitter verschoben wird. Burst-Emitter erzeugen ihre Partikel einmalig beim Anlegen.
+ *
+ * Rate und Lebensdauer kontinuierlicher Emitter werden mit einem Detailgrad skaliert: dem des
+ * Emitters, den der Aufrufer etwa nach dem Abstand zum Betrachter setzt, multipliziert mit
+ * einem globalen Faktor, der ab halb vollem Pool sinkt. Bei Detailgrad null ruht der Emitter.
+ *
+ * Nur der Thread, der {@link #update} aufruft, verändert den Pool. Emitter-Aufrufe anderer
+ * Threads werden in eine lock-freie Warteschlange gestellt und zu Beginn des nächsten Updates
+ * in Aufrufreihenfolge ausgeführt. Lesende Methoden arbeiten auf dem Snapshot des letzten
+ * Updates, der abwechselnd in einen von zwei Puffern kopiert wird.
+ *
+ * Jeder Emitter hat ein Budget gleichzeitig lebender Partikel und eine Priorität. Ist der
+ * Pool voll, verdrängen neue Partikel die am weitesten ausgeblendeten Partikel gleicher oder
+ * niedrigerer Priorität; verworfene und verdrängte Partikel werden gezählt.
+ *
+ * Jeder Emitter zieht seine Zufallswerte aus einem eigenen {@link SplittableRandom}, dessen
+ * Seed beim Registrieren aus dem Seed des Systems abgeleitet wird. Bei gleichem Seed und
+ * gleicher Folge von Emitter-Aufrufen und Updates entstehen dieselben Partikel mit denselben
+ * Ids; die Emission teilt keinen Zustand mit anderen Threads.
+ *
+ * Ab {@code parallelThreshold} lebenden Partikeln wird die Integration in Abschnitte geteilt
+ * und auf dem gemeinsamen {@link ForkJoinPool} ausgeführt.
  */
 public class ParticleSystem {
     private static final int DEFAULT_MAX_PARTICLES = 500;
-    private static final Random random = new Random();
+    // Gleichzeitig lebende Staubpartikel je Charakter
+    private static final int DUST_EMITTER_BUDGET = 64;
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 16_384;
+    // Partikel je Fork-Join-Abschnitt
+    private static final int PARALLEL_CHUNK_SIZE = 4_096;
+    // Ab dieser Auslastung des Pools wird die kontinuierliche Emission gedrosselt
+    private static final float PRESSURE_THRESHOLD = 0.5f;
+    // Drosselung bei vollem Pool
+    private static final float MIN_PRESSURE_SCALE = 0.25f;
+    // Lebensdauer bei Detailgrad null relativ zur Definition
+    private static final float MIN_LIFETIME_SCALE = 0.5f;
     
-    @Getter
-    private final ConcurrentHashMap<UUID, List<Particle>> activeEmitters;
-    private final int maxParticles;
+    // Zustand des Update-Threads
+    private final ParticlePool pool;
+    private final int parallelThreshold;
+    // Liefert die Seeds neu registrierter Emitter
+    private final SplittableRandom emitterSeeds;
+    // Registrierte Emitter und ihr Index im Pool
+    private final Map<UUID, Integer> emitterIndices;
+    // Indizes entfernter Emitter, die wiederverwendet werden können
+    private final Deque<Integer> freeEmitterIndices;
+    private int nextEmitterIndex;
+    // Zustand je Emitter-Index
+    private Emitter[] emitters = new Emitter[16];
+    // Simulationszeit des letzten Updates in Millisekunden
+    private long currentTimeMillis;
+    
+    // Emitter-Aufrufe, die das nächste Update ausführt
+    private final Queue<Runnable> pendingCommands;
+    
+    // Zuletzt veröffentlichter Snapshot und der Puffer für den nächsten
+    private volatile ParticleSnapshot published;
+    private ParticleSnapshot spare;
+    
+    // Metriken; geschrieben nur vom Update-Thread
+    private volatile int activeEmitterCount;
+    private volatile long culledParticles;
+    private volatile long droppedByBudget;
+    private volatile long droppedByCapacity;
     
     /**
      * Erstellt ein neues Partikelsystem mit den Standardeinstellungen.
@@ -36,8 +109,40 @@ public class ParticleSystem {
      * @param maxParticles Maximale Anzahl von Partikeln im System
      */
     public ParticleSystem(int maxParticles) {
-        this.activeEmitters = new ConcurrentHashMap<>();
-        this.maxParticles = maxParticles;
+        this(maxParticles, DEFAULT_PARALLEL_THRESHOLD);
+    }
+    
+    /**
+     * Erstellt ein neues Partikelsystem mit benutzerdefinierten Einstellungen.
+     * 
+     * @param maxParticles Maximale Anzahl von Partikeln im System
+     * @param parallelThreshold Anzahl lebender Partikel, ab der parallel aktualisiert wird;
+     *                          {@link Integer#MAX_VALUE} aktualisiert immer sequentiell
+     */
+    public ParticleSystem(int maxParticles, int parallelThreshold) {
+        this(maxParticles, parallelThreshold, new SplittableRandom().nextLong());
+    }
+    
+    /**
+     * Erstellt ein Partikelsystem, dessen Emission durch den Seed festgelegt ist.
+     * 
+     * @param maxParticles Maximale Anzahl von Partikeln im System
+     * @param parallelThreshold Anzahl lebender Partikel, ab der parallel aktualisiert wird;
+     *                          {@link Integer#MAX_VALUE} aktualisiert immer sequentiell
+     * @param seed Seed, aus dem die Zufallsgeneratoren der Emitter abgeleitet werden
+     */
+    public ParticleSystem(int maxParticles, int parallelThreshold, long seed) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("parallelThreshold muss positiv sein: " + parallelThreshold);
+        }
+        this.pool = new ParticlePool(maxParticles);
+        this.parallelThreshold = parallelThreshold;
+        this.emitterSeeds = new SplittableRandom(seed);
+        this.emitterIndices = new HashMap<>();
+        this.freeEmitterIndices = new ArrayDeque<>();
+        this.pendingCommands = new ConcurrentLinkedQueue<>();
+        this.published = new ParticleSnapshot(maxParticles);
+        this.spare = new ParticleSnapshot(maxParticles);
     }
     
     /**
@@ -50,59 +155,47 @@ public class ParticleSystem {
      * @return ID des erstellten Emitters
      */
     public UUID createDustEmitter(UUID characterId, Position position, float speed, String layerType) {
-        // Konfiguriere Partikel basierend auf Layer-Typ und Geschwindigkeit
-        ParticleConfig config = new ParticleConfig();
-        
-        config.setEmissionRate(Math.min(10, Math.max(1, (int)(speed * 5))));
-        config.setParticleLifetime(1500);
-        config.setParticleSize(0.05f, 0.2f);
-        config.setSpread(15.0f);
-        config.setGravity(0.05f);
-        config.setStartAlpha(0.7f);
-        config.setEndAlpha(0.0f);
-        
-        // Anpassungen basierend auf Layer-Typ
-        switch (layerType) {
-            case "RunningLayer":
-                // Mehr, größere und schnellere Partikel beim Laufen
-                config.setEmissionRate(config.getEmissionRate() * 2);
-                config.setParticleSize(0.1f, 0.3f);
-                config.setParticleSpeed(0.8f, 1.5f);
-                config.setColor(0.8f, 0.8f, 0.7f); // Hellerer Staub
-                break;
-                
-            case "AdvancedWalkingLayer":
-                // Angepasste Partikel für fortgeschrittenes Gehen
-                config.setEmissionRate(config.getEmissionRate() + 2);
-                config.setParticleSize(0.08f, 0.25f);
-                config.setParticleSpeed(0.5f, 1.2f);
-                config.setColor(0.7f, 0.7f, 0.6f);
-                break;
-                
-            case "IdleLayer":
-                // Fast keine Partikel im Idle-Zustand
-                config.setEmissionRate(0);
-                break;
-                
-            default: // BasicWalkingLayer und andere
-                // Standardwerte
-                config.setParticleSpeed(0.3f, 0.8f);
-                config.setColor(0.6f, 0.6f, 0.5f); // Bräunlicher Staub
-                break;
-        }
-        
-        // Erstelle den Emitter nur, wenn die Geschwindigkeit über dem Schwellenwert liegt
-        if (speed < 0.1f) {
-            config.setEmissionRate(0);
-        }
+        // Definition basierend auf Layer-Typ und Geschwindigkeit
+        EmitterDefinition definition = EmitterRegistry.dust(layerType, speed);
         
         // Erstelle und registriere den Emitter
         UUID emitterId = UUID.randomUUID();
-        activeEmitters.put(emitterId, new ArrayList<>());
+        float x = position.getX();
+        float y = position.getY();
+        float z = position.getZ();
+        pendingCommands.add(() -> registerEmitter(emitterId, definition, x, y, z, true,
+            EmitterPriority.LOW, DUST_EMITTER_BUDGET));
         
         return emitterId;
     }
     
+    /**
+     * Verschiebt einen Staubemitter an eine neue Position. Die Definition wird anhand von
+     * Layer-Typ und Geschwindigkeit aus der Registry übernommen; die Partikel erzeugt
+     * {@link #update} entsprechend der Emissionsrate.
+     * 
+     * @param emitterId ID des Emitters
+     * @param position Neue Position des Emitters
+     * @param speed Geschwindigkeit des Charakters
+     * @param layerType Typ des aktiven Bewegungslayers
+     */
+    public void updateDustEmitter(UUID emitterId, Position position, float speed, String layerType) {
+        updateDustEmitter(emitterId, position, speed, layerType, 1.0f);
+    }
+    
+    /**
+     * Verschiebt einen Staubemitter und setzt seinen Detailgrad.
+     * 
+     * @param emitterId ID des Emitters
+     * @param position Neue Position des Emitters
+     * @param speed Geschwindigkeit des Charakters
+     * @param layerType Typ des aktiven Bewegungslayers
+     * @param detail Detailgrad zwischen 0 (keine Emission) und 1 (volle Rate und Lebensdauer)
+     */
+    public void updateDustEmitter(UUID emitterId, Position position, float speed, String layerType, float detail) {
+        updateEmitter(emitterId, position, EmitterRegistry.dust(layerType, speed), detail);
+    }
+    
     /**
      * Erstellt einen neuen Partikelemitter für Glitzereffekte bei Zielerfassung.
      * 
@@ -111,58 +204,139 @@ public class ParticleSystem {
      * @return ID des erstellten Emitters
      */
     public UUID createGoalReachedEmitter(Position position, int burstSize) {
-        ParticleConfig config = new ParticleConfig();
-        
-        config.setEmissionRate(0); // Einmaliger Burst
-        config.setParticleLifetime(2000);
-        config.setParticleSize(0.08f, 0.2f);
-        config.setParticleSpeed(0.5f, 2.0f);
-        config.setSpread(360.0f); // In alle Richtungen
-        config.setGravity(-0.02f); // Leicht aufsteigend
-        config.setStartAlpha(1.0f);
-        config.setEndAlpha(0.0f);
-        config.setColor(1.0f, 0.8f, 0.2f); // Goldenes Glitzern
-        
+        return createBurstEmitter(position, EmitterRegistry.GOAL_REACHED, EmitterPriority.HIGH, burstSize);
+    }
+    
+    /**
+     * Erstellt einen Emitter für den kurzen Partikelburst beim Wechsel des Bewegungslayers.
+     * 
+     * @param position Position des Emitters
+     * @param layerType Typ des neuen Bewegungslayers
+     * @return ID des erstellten Emitters
+     */
+    public UUID createLayerTransitionEmitter(Position position, String layerType) {
+        EmitterDefinition definition = EmitterRegistry.layerTransition(layerType);
+        return createBurstEmitter(position, definition, EmitterPriority.NORMAL, definition.emissionRate());
+    }
+    
+    private UUID createBurstEmitter(Position position, EmitterDefinition definition,
+                                    EmitterPriority priority, int burstSize) {
         // Erstelle und registriere den Emitter
         UUID emitterId = UUID.randomUUID();
-        List<Particle> particles = new ArrayList<>();
-        activeEmitters.put(emitterId, particles);
+        float x = position.getX();
+        float y = position.getY();
+        float z = position.getZ();
         
-        // Erzeuge den initialen Burst von Partikeln
-        for (int i = 0; i < burstSize; i++) {
-            particles.add(createParticle(position, config));
-        }
+        pendingCommands.add(() -> {
+            int emitter = registerEmitter(emitterId, definition, x, y, z, false, priority, burstSize);
+            
+            // Erzeuge den initialen Burst von Partikeln
+            emit(emitter, x, y, z, burstSize, 1.0f);
+        });
         
         return emitterId;
     }
     
     /**
      * Aktualisiert das Partikelsystem und bewegt alle aktiven Partikel.
+     * Darf immer nur von einem Thread gleichzeitig aufgerufen werden.
      * 
-     * @param deltaTime Vergangene Zeit seit dem letzten Update in Sekunden
+     * @param time Simulationszeitpunkt des aktuellen Ticks
      */
-    public void update(float deltaTime) {
-        // Iteriere über alle Emitter
-        for (UUID emitterId : activeEmitters.keySet()) {
-            List<Particle> particles = activeEmitters.get(emitterId);
-            
-            // Aktualisiere existierende Partikel
-            Iterator<Particle> iterator = particles.iterator();
-            while (iterator.hasNext()) {
-                Particle particle = iterator.next();
-                
-                // Aktualisiere die Partikelposition
-                particle.update(deltaTime);
-                
-                // Entferne abgelaufene Partikel
-                if (particle.isExpired()) {
-                    iterator.remove();
-                }
+    public void update(SimulationTime time) {
+        long now = time.getElapsedMillis();
+        currentTimeMillis = now;
+        
+        // Vorgemerkte Emitter-Aufrufe ausführen; neue Partikel entstehen zur Zeit dieses Ticks
+        Runnable command;
+        while ((command = pendingCommands.poll()) != null) {
+            command.run();
+        }
+        
+        emitContinuous(time.getDeltaSeconds());
+        
+        // Ein Durchlauf über alle lebenden Partikel, unabhängig vom Emitter; Ablauf gegen die
+        // Simulationszeit des Ticks
+        if (pool.size() >= parallelThreshold) {
+            pool.update(time.getDeltaSeconds(), now, ForkJoinPool.commonPool(), PARALLEL_CHUNK_SIZE);
+        } else {
+            pool.update(time.getDeltaSeconds(), now);
+        }
+        
+        publishSnapshot(now);
+    }
+    
+    /**
+     * Schreibt die Akkumulatoren der kontinuierlichen Emitter fort und erzeugt die fälligen
+     * Partikel an der zuletzt gemeldeten Position.
+     */
+    private void emitContinuous(float deltaTime) {
+        float pressure = pressureScale();
+        for (int index = 0; index < nextEmitterIndex; index++) {
+            Emitter emitter = emitters[index];
+            if (emitter == null || !emitter.continuous) {
+                continue;
+            }
+            float detail = emitter.detail * pressure;
+            if (detail <= 0) {
+                continue;
+            }
+            emitter.accumulator += emitter.definition.emissionRate() * detail * deltaTime;
+            int due = (int) emitter.accumulator;
+            if (due > 0) {
+                emitter.accumulator -= due;
+                emit(index, emitter.x, emitter.y, emitter.z, due,
+                    MIN_LIFETIME_SCALE + (1.0f - MIN_LIFETIME_SCALE) * detail);
             }
         }
+    }
+    
+    /**
+     * Globaler Detailfaktor: 1 bis zur halben Auslastung des Pools, danach linear fallend
+     * bis {@link #MIN_PRESSURE_SCALE} bei vollem Pool.
+     */
+    private float pressureScale() {
+        if (pool.capacity() == 0) {
+            return MIN_PRESSURE_SCALE;
+        }
+        float load = (float) pool.size() / pool.capacity();
+        if (load <= PRESSURE_THRESHOLD) {
+            return 1.0f;
+        }
+        float excess = (load - PRESSURE_THRESHOLD) / (1.0f - PRESSURE_THRESHOLD);
+        return 1.0f - excess * (1.0f - MIN_PRESSURE_SCALE);
+    }
+    
+    /**
+     * Kopiert den Pool in den freien Puffer und veröffentlicht ihn. Hält noch ein Leser den
+     * freien Puffer, wird stattdessen ein neuer angelegt.
+     */
+    private void publishSnapshot(long now) {
+        ParticleSnapshot next = spare;
+        if (next.isInUse() || next.particles.capacity() != pool.capacity()) {
+            next = new ParticleSnapshot(pool.capacity());
+        }
+        next.particles.copyFrom(pool);
+        next.timeMillis = now;
         
-        // Entferne leere Emitter
-        activeEmitters.entrySet().removeIf(entry -> entry.getValue().isEmpty());
+        spare = published;
+        published = next;
+    }
+    
+    /**
+     * Meldet einen Leser am aktuellen Snapshot an. Der Snapshot ist erst gesichert, wenn er
+     * nach der Anmeldung noch veröffentlicht ist; sonst könnte der Update-Thread ihn bereits
+     * als freien Puffer beschreiben.
+     */
+    private ParticleSnapshot acquireSnapshot() {
+        while (true) {
+            ParticleSnapshot snapshot = published;
+            snapshot.acquire();
+            if (snapshot == published) {
+                return snapshot;
+            }
+            snapshot.release();
+        }
     }
     
     /**
@@ -171,13 +345,44 @@ public class ParticleSystem {
      * @return Liste aller aktiven Partikel
      */
     public List<Particle> getAllParticles() {
-        List<Particle> allParticles = new ArrayList<>();
-        
-        for (List<Particle> particles : activeEmitters.values()) {
-            allParticles.addAll(particles);
+        ParticleSnapshot snapshot = acquireSnapshot();
+        try {
+            ParticlePool particles = snapshot.particles;
+            List<Particle> allParticles = new ArrayList<>(particles.size());
+            
+            for (int i = 0; i < particles.size(); i++) {
+                allParticles.add(particles.toParticle(i));
+            }
+            
+            return allParticles;
+        } finally {
+            snapshot.release();
         }
-        
-        return allParticles;
+    }
+    
+    /**
+     * Kodiert den Snapshot des letzten Updates als binären Frame im Format von
+     * {@link ParticleFrameWriter}, ohne Partikelobjekte zu erzeugen.
+     * 
+     * @return Lesebereiter Puffer, der dem Aufrufer gehört
+     */
+    public ByteBuffer encodeFrame() {
+        ParticleSnapshot snapshot = acquireSnapshot();
+        try {
+            return ParticleFrameWriter.write(snapshot.particles, snapshot.timeMillis);
+        } finally {
+            snapshot.release();
+        }
+    }
+    
+    /**
+     * Gibt die Simulationszeit des letzten Updates zurück, gegen die Lebensdauer und
+     * Opazität der Partikel berechnet werden.
+     * 
+     * @return Simulationszeit in Millisekunden
+     */
+    public long getCurrentTimeMillis() {
+        return published.timeMillis;
     }
     
     /**
@@ -186,80 +391,150 @@ public class ParticleSystem {
      * @return Anzahl der aktiven Partikel
      */
     public int getActiveParticleCount() {
-        int count = 0;
-        
-        for (List<Particle> particles : activeEmitters.values()) {
-            count += particles.size();
-        }
-        
-        return count;
+        return published.particles.size();
     }
     
     /**
-     * Aktualisiert einen kontinuierlichen Emitter an einer neuen Position und erzeugt neue Partikel.
+     * Verschiebt einen kontinuierlichen Emitter an eine neue Position. Der Emitter übernimmt
+     * die Werte der Konfiguration zum Zeitpunkt des Aufrufs als neue Definition und erzeugt
+     * ab dem nächsten Update {@link ParticleConfig#getEmissionRate()} Partikel pro Sekunde,
+     * unabhängig davon, wie oft diese Methode aufgerufen wird.
      * 
      * @param emitterId ID des Emitters
      * @param position Neue Position des Emitters
      * @param config Konfiguration für die Partikel
      */
     public void updateEmitter(UUID emitterId, Position position, ParticleConfig config) {
-        List<Particle> particles = activeEmitters.get(emitterId);
+        updateEmitter(emitterId, position, EmitterDefinition.of(config), 1.0f);
+    }
+    
+    private void updateEmitter(UUID emitterId, Position position, EmitterDefinition definition, float detail) {
+        if (!(detail >= 0.0f && detail <= 1.0f)) {
+            throw new IllegalArgumentException("Detailgrad muss zwischen 0 und 1 liegen: " + detail);
+        }
+        float x = position.getX();
+        float y = position.getY();
+        float z = position.getZ();
         
-        if (particles == null) {
+        pendingCommands.add(() -> {
+            Integer emitter = emitterIndices.get(emitterId);
+            
+            if (emitter == null) {
+                return;
+            }
+            
+            // Die Partikel erzeugt das Update entsprechend der Emissionsrate
+            Emitter state = emitters[emitter];
+            state.definition = definition;
+            state.x = x;
+            state.y = y;
+            state.z = z;
+            state.detail = detail;
+        });
+    }
+    
+    private int registerEmitter(UUID emitterId, EmitterDefinition definition, float x, float y, float z,
+                                boolean continuous, EmitterPriority priority, int budget) {
+        Integer free = freeEmitterIndices.poll();
+        int emitter = free != null ? free : nextEmitterIndex++;
+        if (emitter >= emitters.length) {
+            emitters = Arrays.copyOf(emitters, Math.max(emitter + 1, emitters.length * 2));
+        }
+        emitters[emitter] = new Emitter(definition, x, y, z, continuous, emitterSeeds.nextLong());
+        pool.registerEmitter(emitter, priority.ordinal(), budget);
+        emitterIndices.put(emitterId, emitter);
+        activeEmitterCount = emitterIndices.size();
+        return emitter;
+    }
+    
+    /**
+     * Erzeugt bis zu {@code count} Partikel im Rahmen des Emitter-Budgets. Ist der Pool voll,
+     * werden Partikel gleicher oder niedrigerer Priorität verdrängt.
+     * 
+     * @param lifetimeScale Faktor auf die Lebensdauer der Definition
+     */
+    private void emit(int emitter, float x, float y, float z, int count, float lifetimeScale) {
+        if (count <= 0) {
             return;
         }
+        int allowed = Math.min(count, pool.remainingBudget(emitter));
+        if (allowed < count) {
+            droppedByBudget += count - allowed;
+        }
         
-        // Begrenze die Gesamtzahl der Partikel im System
-        if (getActiveParticleCount() >= maxParticles) {
-            return;
+        int free = pool.capacity() - pool.size();
+        if (allowed > free) {
+            int culled = pool.cull(allowed - free, pool.priority(emitter), currentTimeMillis);
+            if (culled > 0) {
+                culledParticles += culled;
+            }
+            free += culled;
+            if (allowed > free) {
+                droppedByCapacity += allowed - free;
+                allowed = free;
+            }
         }
         
-        // Erzeuge neue Partikel entsprechend der Emissionsrate
-        for (int i = 0; i < config.getEmissionRate(); i++) {
-            particles.add(createParticle(position, config));
+        Emitter state = emitters[emitter];
+        long lifetime = Math.round(state.definition.particleLifetime() * (double) lifetimeScale);
+        for (int i = 0; i < allowed; i++) {
+            emitParticle(emitter, x, y, z, state.definition, lifetime, state.random);
         }
     }
     
     /**
-     * Erzeugt ein neues Partikel mit den angegebenen Eigenschaften.
+     * Erzeugt ein neues Partikel mit den angegebenen Eigenschaften direkt im Pool.
+     * Der Aufrufer stellt sicher, dass der Pool Platz hat.
      */
-    private Particle createParticle(Position position, ParticleConfig config) {
+    private void emitParticle(int emitter, float x, float y, float z, EmitterDefinition definition,
+                              long lifetime, SplittableRandom random) {
+        int index = pool.allocate(emitter);
+        
         // Zufällige Größe im angegebenen Bereich
-        float size = config.getMinSize() + random.nextFloat() * (config.getMaxSize() - config.getMinSize());
+        float size = definition.minSize() + random.nextFloat() * (definition.maxSize() - definition.minSize());
         
         // Zufällige Geschwindigkeit im angegebenen Bereich
-        float speed = config.getMinSpeed() + random.nextFloat() * (config.getMaxSpeed() - config.getMinSpeed());
+        float speed = definition.minSpeed() + random.nextFloat() * (definition.maxSpeed() - definition.minSpeed());
         
         // Zufällige Richtung im angegebenen Spread-Bereich
-        float angle = random.nextFloat() * config.getSpread() - (config.getSpread() / 2);
-        float dirX = (float) Math.sin(Math.toRadians(angle));
-        float dirY = (float) Math.cos(Math.toRadians(angle));
+        float angle = random.nextFloat() * definition.spread() - (definition.spread() / 2);
+        float dirX = FastMath.sinDeg(angle);
+        float dirY = FastMath.cosDeg(angle);
         
-        // Erstelle und gib das Partikel zurück
-        return new Particle(
-            UUID.randomUUID(),
-            position.getX(), position.getY(), position.getZ(),
-            dirX * speed, dirY * speed, 0,
-            0, config.getGravity(), 0,
-            size,
-            config.getStartAlpha(),
-            config.getEndAlpha(),
-            config.getRed(), config.getGreen(), config.getBlue(),
-            System.currentTimeMillis(),
-            config.getParticleLifetime()
-        );
+        pool.x[index] = x;
+        pool.y[index] = y;
+        pool.z[index] = z;
+        pool.velocityX[index] = dirX * speed;
+        pool.velocityY[index] = dirY * speed;
+        pool.velocityZ[index] = 0;
+        pool.accelerationX[index] = 0;
+        pool.accelerationY[index] = definition.gravity();
+        pool.accelerationZ[index] = 0;
+        pool.size[index] = size;
+        pool.startAlpha[index] = definition.startAlpha();
+        pool.endAlpha[index] = definition.endAlpha();
+        pool.red[index] = definition.red();
+        pool.green[index] = definition.green();
+        pool.blue[index] = definition.blue();
+        pool.creationTime[index] = currentTimeMillis;
+        pool.lifetime[index] = lifetime;
     }
     
     /**
      * Führt eine Aktion für jeden aktiven Partikel aus (z.B. für Rendering).
+     * Die Aktion erhält Kopien; Änderungen daran wirken nicht auf das System zurück.
      * 
      * @param action Aktion, die für jeden Partikel ausgeführt werden soll
      */
     public void forEachParticle(Consumer<Particle> action) {
-        for (List<Particle> particles : activeEmitters.values()) {
-            for (Particle particle : particles) {
-                action.accept(particle);
+        ParticleSnapshot snapshot = acquireSnapshot();
+        try {
+            ParticlePool particles = snapshot.particles;
+            for (int i = 0; i < particles.size(); i++) {
+                action.accept(particles.toParticle(i));
             }
+        } finally {
+            snapshot.release();
         }
     }
     
@@ -269,13 +544,94 @@ public class ParticleSystem {
      * @param emitterId ID des Emitters
      */
     public void removeEmitter(UUID emitterId) {
-        activeEmitters.remove(emitterId);
+        pendingCommands.add(() -> {
+            Integer emitter = emitterIndices.remove(emitterId);
+            if (emitter != null) {
+                pool.removeEmitter(emitter);
+                emitters[emitter] = null;
+                freeEmitterIndices.push(emitter);
+                activeEmitterCount = emitterIndices.size();
+            }
+        });
     }
     
     /**
-     * Entfernt alle Partikel und Emitter.
+     * Entfernt alle Partikel und Emitter. Leser sehen sofort keine Partikel mehr, auch wenn
+     * das nächste Update noch aussteht.
      */
     public void clearAll() {
-        activeEmitters.clear();
+        pendingCommands.add(() -> {
+            emitterIndices.clear();
+            freeEmitterIndices.clear();
+            nextEmitterIndex = 0;
+            Arrays.fill(emitters, null);
+            pool.clear();
+            activeEmitterCount = 0;
+        });
+        
+        ParticleSnapshot cleared = new ParticleSnapshot(0);
+        cleared.timeMillis = published.timeMillis;
+        published = cleared;
     }
+    
+    /**
+     * Liefert die Auslastung des Partikelsystems und die Zähler verworfener Partikel.
+     * 
+     * @return Metriken zum Zeitpunkt des letzten Updates
+     */
+    public ParticleStats getStats() {
+        return new ParticleStats(
+            published.particles.size(),
+            pool.capacity(),
+            activeEmitterCount,
+            culledParticles,
+            droppedByBudget,
+            droppedByCapacity
+        );
+    }
+    
+    /**
+     * Zustand eines registrierten Emitters; nur vom Update-Thread verwendet.
+     */
+    private static final class Emitter {
+        EmitterDefinition definition;
+        float x;
+        float y;
+        float z;
+        final boolean continuous;
+        // Noch nicht erzeugter Bruchteil eines Partikels
+        float accumulator;
+        // Vom Aufrufer gesetzter Detailgrad (0..1)
+        float detail = 1.0f;
+        // Zufallswerte der Partikel dieses Emitters
+        final SplittableRandom random;
+        
+        Emitter(EmitterDefinition definition, float x, float y, float z, boolean continuous, long seed) {
+            this.definition = definition;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.continuous = continuous;
+            this.random = new SplittableRandom(seed);
+        }
+    }
+    
+    /**
+     * Metriken des Partikelsystems.
+     *
+     * @param activeParticles Anzahl lebender Partikel
+     * @param maxParticles Kapazität des Partikelpools
+     * @param activeEmitters Anzahl registrierter Emitter
+     * @param culledParticles Partikel, die für Partikel gleicher oder höherer Priorität verdrängt wurden
+     * @param droppedByBudget Nicht erzeugte Partikel, weil der Emitter sein Budget erreicht hatte
+     * @param droppedByCapacity Nicht erzeugte Partikel, weil der Pool nur Partikel höherer Priorität enthielt
+     */
+    public record ParticleStats(
+        int activeParticles,
+        int maxParticles,
+        int activeEmitters,
+        long culledParticles,
+        long droppedByBudget,
+        long droppedByCapacity
+    ) {}
 }
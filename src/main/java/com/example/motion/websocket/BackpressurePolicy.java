@@ -0,0 +1,17 @@
+package com.example.motion.websocket;
+
+/**
+ * Verhalten einer Session-Warteschlange, wenn der Client nicht schnell genug liest.
+ */
+public enum BackpressurePolicy {
+    /**
+     * Bei voller Warteschlange wird das älteste Update verworfen.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Noch nicht gesendete Updates desselben Charakters und Typs werden durch das neueste
+     * ersetzt; erst wenn mehr Charaktere als Plätze anstehen, wird das älteste verworfen.
+     */
+    COALESCE_LATEST
+}
@@ -0,0 +1,175 @@
+package com.example.motion.websocket;
+
+import org.springframework.web.socket.BinaryMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Schreibt Frames des binären Update-Protokolls (Little Endian).
+ *
+ * <pre>
+ * Frame:    u8 FRAME_BATCH, u32 tick, u32 Serverzeit (ms, Simulationszeit), u16 Anzahl Records, Records...
+ * Records:  u8 RECORD_CHARACTER_ID, u16 shortId, i64 UUID (höhere Bits), i64 UUID (niedrigere Bits)
+ *           u8 RECORD_POSITION, u16 shortId, i32 x, i32 y, i32 z   (Festkomma, 1/256 m),
+ *                               i16 vx, i16 vy, i16 vz             (Festkomma, 1/256 m/s)
+ *           u8 RECORD_ANIMATION, u16 shortId, u16 Länge, UTF-8 animationId, u16 progress (0..65535)
+ *           u8 RECORD_LAYER, u16 shortId, u16 Länge, UTF-8 activeLayer
+ * </pre>
+ *
+ * Short-Ids gelten je Session und werden mit einem RECORD_CHARACTER_ID angekündigt, bevor
+ * sie das erste Mal verwendet werden.
+ *
+ * Records ohne Session-Bezug werden mit den statischen Methoden einmal je Update kodiert und
+ * mit {@link #writeRecord} in die Frames aller Sessions kopiert; dabei wird nur die Short-Id
+ * ersetzt. Ein Writer wird je Sende-Thread wiederverwendet.
+ */
+final class BinaryFrameWriter {
+
+    static final byte FRAME_BATCH = 1;
+
+    static final byte RECORD_CHARACTER_ID = 1;
+    static final byte RECORD_POSITION = 2;
+    static final byte RECORD_ANIMATION = 3;
+    static final byte RECORD_LAYER = 4;
+
+    static final float POSITION_SCALE = 256.0f;
+    static final float VELOCITY_SCALE = 256.0f;
+    static final int MAX_SHORT_ID = 0xFFFF;
+
+    static final int HEADER_SIZE = 1 + 4 + 4 + 2;
+    static final int CHARACTER_ID_RECORD_SIZE = 1 + 2 + 16;
+    static final int POSITION_RECORD_SIZE = 1 + 2 + 12 + 6;
+
+    private static final int COUNT_OFFSET = 1 + 4 + 4;
+    private static final int SHORT_ID_OFFSET = 1;
+
+    private ByteBuffer buffer;
+    private int recordCount;
+
+    BinaryFrameWriter(int initialCapacity) {
+        this.buffer = ByteBuffer.allocate(Math.max(initialCapacity, HEADER_SIZE)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Kodiert einen Positions-Record mit Short-Id 0.
+     */
+    static byte[] positionRecord(float x, float y, float z,
+                                 float velocityX, float velocityY, float velocityZ) {
+        ByteBuffer record = newRecord(POSITION_RECORD_SIZE, RECORD_POSITION);
+        record.putInt(Math.round(x * POSITION_SCALE));
+        record.putInt(Math.round(y * POSITION_SCALE));
+        record.putInt(Math.round(z * POSITION_SCALE));
+        record.putShort(quantizeVelocity(velocityX));
+        record.putShort(quantizeVelocity(velocityY));
+        record.putShort(quantizeVelocity(velocityZ));
+        return record.array();
+    }
+
+    /**
+     * Kodiert einen Animations-Record mit Short-Id 0.
+     */
+    static byte[] animationRecord(String animationId, float progress) {
+        byte[] text = String.valueOf(animationId).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = newRecord(1 + 2 + 2 + text.length + 2, RECORD_ANIMATION);
+        putString(record, text);
+        float clamped = Math.max(0.0f, Math.min(1.0f, progress));
+        record.putShort((short) Math.round(clamped * 0xFFFF));
+        return record.array();
+    }
+
+    /**
+     * Kodiert einen Layer-Record mit Short-Id 0.
+     */
+    static byte[] layerRecord(String activeLayer) {
+        byte[] text = String.valueOf(activeLayer).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = newRecord(1 + 2 + 2 + text.length, RECORD_LAYER);
+        putString(record, text);
+        return record.array();
+    }
+
+    /**
+     * Beginnt einen neuen Frame; bereits geschriebene Daten werden verworfen.
+     *
+     * @param timeMillis Simulationszeit des Snapshots; läuft nach 2^32 ms über, Clients
+     *                   verwenden nur Differenzen
+     */
+    void begin(long tick, long timeMillis) {
+        buffer.clear();
+        buffer.put(FRAME_BATCH);
+        buffer.putInt((int) tick);
+        buffer.putInt((int) timeMillis);
+        buffer.putShort((short) 0);
+        recordCount = 0;
+    }
+
+    void writeCharacterId(int shortId, UUID characterId) {
+        ensureRemaining(CHARACTER_ID_RECORD_SIZE);
+        buffer.put(RECORD_CHARACTER_ID);
+        buffer.putShort((short) shortId);
+        buffer.putLong(characterId.getMostSignificantBits());
+        buffer.putLong(characterId.getLeastSignificantBits());
+        recordCount++;
+    }
+
+    /**
+     * Kopiert einen vorab kodierten Record in den Frame und setzt die Short-Id der Session.
+     */
+    void writeRecord(int shortId, byte[] record) {
+        ensureRemaining(record.length);
+        int start = buffer.position();
+        buffer.put(record);
+        buffer.putShort(start + SHORT_ID_OFFSET, (short) shortId);
+        recordCount++;
+    }
+
+    int size() {
+        return buffer.position();
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Schließt den Frame ab und liefert ihn als Nachricht. Die Nachricht teilt sich den Puffer
+     * des Writers und ist nur bis zum nächsten {@link #begin} gültig; sie muss also synchron
+     * gesendet werden.
+     */
+    BinaryMessage finish() {
+        buffer.putShort(COUNT_OFFSET, (short) recordCount);
+        return new BinaryMessage(buffer.duplicate().flip());
+    }
+
+    private static ByteBuffer newRecord(int size, byte recordType) {
+        ByteBuffer record = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        record.put(recordType);
+        record.putShort((short) 0);
+        return record;
+    }
+
+    private static short quantizeVelocity(float velocity) {
+        int quantized = Math.round(velocity * VELOCITY_SCALE);
+        return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, quantized));
+    }
+
+    private static void putString(ByteBuffer record, byte[] value) {
+        if (value.length > 0xFFFF) {
+            throw new IllegalArgumentException("Zeichenkette zu lang für das Binärprotokoll: " + value.length);
+        }
+        record.putShort((short) value.length);
+        record.put(value);
+    }
+
+    private void ensureRemaining(int bytes) {
+        if (buffer.remaining() < bytes) {
+            int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+            ByteBuffer grown = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+    }
+}
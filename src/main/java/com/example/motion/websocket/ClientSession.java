@@ -0,0 +1,215 @@
+package com.example.motion.websocket;
+
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serverseitiger Zustand einer WebSocket-Verbindung.
+ */
+class ClientSession {
+    // Weitere Antworten werden verworfen, bis der Client sie abgenommen hat
+    private static final int MAX_CONTROL_MESSAGES = 16;
+
+    private final WebSocketSession session;
+    private final boolean binary;
+    private final DeadReckoning deadReckoning;
+    private volatile InterestArea interestArea;
+    // Updates, die mit dem nächsten Frame gesendet werden
+    private final OutboundQueue pendingUpdates;
+    // Antworten auf Client-Nachrichten, z.B. Fehler; werden vor dem nächsten Frame gesendet
+    private final ArrayDeque<WebSocketMessage<?>> controlMessages = new ArrayDeque<>();
+    // Verhindert, dass die Session auf zwei Sende-Threads gleichzeitig abgearbeitet wird
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final AtomicBoolean closing = new AtomicBoolean();
+    // Short-Ids des Binärprotokolls; nur vom jeweils sendenden Thread verwendet
+    private final Map<UUID, Integer> shortIds = new HashMap<>();
+    private int nextShortId;
+
+    // Metriken; geschrieben nur vom jeweils sendenden Thread
+    private volatile long sentFrames;
+    private volatile long sentBytes;
+    private volatile long lastLagNanos;
+    private volatile long maxLagNanos;
+
+    /**
+     * @param session Verbindung; gleichzeitige Sendevorgänge muss sie selbst serialisieren,
+     *                z.B. als {@link org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator}
+     * @param binary true, wenn die Session das binäre Protokoll ausgehandelt hat
+     * @param deadReckoning Filter für die Positionsupdates dieser Session
+     * @param pendingUpdates Warteschlange der noch nicht gesendeten Updates
+     */
+    ClientSession(WebSocketSession session, boolean binary, DeadReckoning deadReckoning,
+                  OutboundQueue pendingUpdates) {
+        this.session = session;
+        this.binary = binary;
+        this.deadReckoning = deadReckoning;
+        this.pendingUpdates = pendingUpdates;
+    }
+
+    WebSocketSession getSession() {
+        return session;
+    }
+
+    String getId() {
+        return session.getId();
+    }
+
+    boolean isBinary() {
+        return binary;
+    }
+
+    DeadReckoning getDeadReckoning() {
+        return deadReckoning;
+    }
+
+    InterestArea getInterestArea() {
+        return interestArea;
+    }
+
+    void setInterestArea(InterestArea interestArea) {
+        this.interestArea = interestArea;
+    }
+
+    boolean isInterestedIn(float x, float z) {
+        InterestArea area = interestArea;
+        return area != null && area.contains(x, z);
+    }
+
+    /**
+     * Merkt ein serialisiertes Update für den nächsten Frame vor.
+     */
+    void enqueue(OutboundUpdate update) {
+        pendingUpdates.offer(update);
+    }
+
+    /**
+     * Entnimmt alle vorgemerkten Updates.
+     */
+    List<OutboundUpdate> drainPendingUpdates() {
+        return pendingUpdates.drain();
+    }
+
+    /**
+     * Merkt eine Antwort an den Client vor; sie wird von einem Sende-Thread verschickt.
+     */
+    void enqueueControl(WebSocketMessage<?> message) {
+        synchronized (controlMessages) {
+            if (controlMessages.size() >= MAX_CONTROL_MESSAGES) {
+                controlMessages.pollFirst();
+            }
+            controlMessages.addLast(message);
+        }
+    }
+
+    boolean hasControlMessages() {
+        synchronized (controlMessages) {
+            return !controlMessages.isEmpty();
+        }
+    }
+
+    /**
+     * Entnimmt alle vorgemerkten Antworten.
+     */
+    List<WebSocketMessage<?>> drainControlMessages() {
+        synchronized (controlMessages) {
+            List<WebSocketMessage<?>> messages = new ArrayList<>(controlMessages);
+            controlMessages.clear();
+            return messages;
+        }
+    }
+
+    OutboundQueue getPendingUpdates() {
+        return pendingUpdates;
+    }
+
+    /**
+     * Reserviert die Session für einen Sende-Thread.
+     *
+     * @return false, wenn sie bereits abgearbeitet wird
+     */
+    boolean tryScheduleDrain() {
+        return drainScheduled.compareAndSet(false, true);
+    }
+
+    void drainFinished() {
+        drainScheduled.set(false);
+    }
+
+    /**
+     * Markiert die Session als zu schließen.
+     *
+     * @return false, wenn sie bereits geschlossen wird
+     */
+    boolean markClosing() {
+        return closing.compareAndSet(false, true);
+    }
+
+    void recordSent(int frameBytes) {
+        sentFrames++;
+        sentBytes += frameBytes;
+    }
+
+    void recordLag(long lagNanos) {
+        lastLagNanos = lagNanos;
+        if (lagNanos > maxLagNanos) {
+            maxLagNanos = lagNanos;
+        }
+    }
+
+    long getSentFrames() {
+        return sentFrames;
+    }
+
+    long getSentBytes() {
+        return sentBytes;
+    }
+
+    long getLastLagNanos() {
+        return lastLagNanos;
+    }
+
+    long getMaxLagNanos() {
+        return maxLagNanos;
+    }
+
+    /**
+     * Liefert die Short-Id eines Charakters oder -1, wenn sie noch nicht vergeben wurde.
+     */
+    int getShortId(UUID characterId) {
+        Integer shortId = shortIds.get(characterId);
+        return shortId != null ? shortId : -1;
+    }
+
+    /**
+     * Vergibt eine neue Short-Id. Ist der Wertebereich erschöpft, beginnt die Vergabe neu;
+     * der Client erhält für jede Id ohnehin eine neue Ankündigung.
+     */
+    int assignShortId(UUID characterId) {
+        if (nextShortId > BinaryFrameWriter.MAX_SHORT_ID) {
+            shortIds.clear();
+            nextShortId = 0;
+        }
+        int shortId = nextShortId++;
+        shortIds.put(characterId, shortId);
+        return shortId;
+    }
+
+    /**
+     * Sendet eine Nachricht. Nur der Sende-Thread, der die Session über
+     * {@link #tryScheduleDrain()} reserviert hat, ruft dies auf.
+     */
+    void send(WebSocketMessage<?> message) throws IOException {
+        if (session.isOpen()) {
+            session.sendMessage(message);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.motion.websocket;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Dead Reckoning für die Positionsupdates einer Session.
+ * Der Client extrapoliert jede Position mit der zuletzt gesendeten Geschwindigkeit. Ein neues
+ * Update wird nur gesendet, wenn diese Vorhersage um mehr als die Schwelle von der tatsächlichen
+ * Position abweicht, der Charakter zum Stehen kommt oder das letzte Update älter als das
+ * Keyframe-Intervall ist.
+ *
+ * Nicht threadsicher. Verwendet wird die Instanz einer Session beim Abarbeiten auf einem der
+ * Sende-Threads; {@link ClientSession#tryScheduleDrain()} stellt sicher, dass höchstens ein
+ * Thread gleichzeitig für diese Session sendet, und serialisiert so alle Zugriffe.
+ */
+final class DeadReckoning {
+
+    private final float thresholdSquared;
+    private final long keyframeInterval;
+    private final Map<UUID, SentMotion> sent = new HashMap<>();
+    private long lastPruneTick;
+
+    /**
+     * @param threshold Zulässige Abweichung der Vorhersage in Metern
+     * @param keyframeInterval Maximaler Abstand zwischen zwei Updates eines Charakters in Ticks
+     */
+    DeadReckoning(float threshold, long keyframeInterval) {
+        this.thresholdSquared = threshold * threshold;
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * Prüft, ob ein Update gesendet werden muss, und merkt es sich in diesem Fall als neue
+     * Vorhersagebasis des Clients.
+     */
+    boolean shouldSend(UUID characterId, float x, float y, float z,
+                       float velocityX, float velocityY, float velocityZ,
+                       double time, long tick) {
+        SentMotion last = sent.get(characterId);
+        if (last != null && tick - last.tick < keyframeInterval) {
+            boolean stopped = velocityX == 0 && velocityY == 0 && velocityZ == 0 && last.isMoving();
+            float dt = (float) (time - last.time);
+            float dx = x - (last.x + last.velocityX * dt);
+            float dy = y - (last.y + last.velocityY * dt);
+            float dz = z - (last.z + last.velocityZ * dt);
+            if (!stopped && dx * dx + dy * dy + dz * dz <= thresholdSquared) {
+                return false;
+            }
+        }
+        sent.put(characterId, new SentMotion(x, y, z, velocityX, velocityY, velocityZ, time, tick));
+        return true;
+    }
+
+    /**
+     * Entfernt Einträge, die älter als ein Keyframe-Intervall sind; ihr nächstes Update wird
+     * ohnehin als Keyframe gesendet.
+     */
+    void prune(long tick) {
+        if (tick - lastPruneTick < keyframeInterval) {
+            return;
+        }
+        lastPruneTick = tick;
+        sent.values().removeIf(motion -> tick - motion.tick >= keyframeInterval);
+    }
+
+    private record SentMotion(
+        float x, float y, float z,
+        float velocityX, float velocityY, float velocityZ,
+        double time, long tick
+    ) {
+        boolean isMoving() {
+            return velocityX != 0 || velocityY != 0 || velocityZ != 0;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.motion.websocket;
+
+import com.example.motion.sys.model.Position;
+
+/**
+ * Kreisförmiger Interessenbereich einer WebSocket-Session in der XZ-Ebene.
+ */
+public record InterestArea(float centerX, float centerZ, float radius) {
+
+    public static final float MAX_RADIUS = 500.0f;
+
+    public InterestArea {
+        if (!(radius > 0 && radius <= MAX_RADIUS)) {
+            throw new IllegalArgumentException(
+                "Radius muss zwischen 0 und " + MAX_RADIUS + " liegen: " + radius);
+        }
+        if (!Position.isWithinWorld(centerX) || !Position.isWithinWorld(centerZ)) {
+            throw new IllegalArgumentException(
+                "Mittelpunkt liegt außerhalb der Welt: (" + centerX + ", " + centerZ + ")");
+        }
+    }
+
+    public boolean contains(float x, float z) {
+        float dx = x - centerX;
+        float dz = z - centerZ;
+        return dx * dx + dz * dz <= radius * radius;
+    }
+}
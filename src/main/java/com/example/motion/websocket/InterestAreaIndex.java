@@ -0,0 +1,83 @@
+package com.example.motion.websocket;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Räumlicher Index der Interessenbereiche aller Sessions.
+ * Jede Session wird in alle Grid-Zellen eingetragen, die ihr Bereich überdeckt. Für eine
+ * Charakterposition liefert {@link #forEachCandidate} damit nur die Sessions der einen Zelle,
+ * statt alle Sessions zu durchlaufen.
+ */
+class InterestAreaIndex {
+
+    static final float DEFAULT_CELL_SIZE = 32.0f;
+
+    private final float cellSize;
+    private final Map<Long, Set<ClientSession>> cells = new ConcurrentHashMap<>();
+
+    InterestAreaIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    InterestAreaIndex(float cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Trägt eine Session mit ihrem neuen Bereich ein und entfernt den alten.
+     *
+     * @param previous Bisheriger Bereich oder null
+     * @param area Neuer Bereich oder null zum Austragen
+     */
+    void update(ClientSession session, InterestArea previous, InterestArea area) {
+        // compute hält Entfernen leerer Zellen und Hinzufügen atomar zueinander
+        if (previous != null) {
+            forEachCell(previous, key -> cells.computeIfPresent(key, (k, sessions) -> {
+                sessions.remove(session);
+                return sessions.isEmpty() ? null : sessions;
+            }));
+        }
+        if (area != null) {
+            forEachCell(area, key -> cells.compute(key, (k, sessions) -> {
+                Set<ClientSession> result = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+                result.add(session);
+                return result;
+            }));
+        }
+    }
+
+    /**
+     * Besucht alle Sessions, deren Bereich die Zelle der Position überdeckt.
+     * Ob die Position tatsächlich im Bereich liegt, prüft der Aufrufer.
+     */
+    void forEachCandidate(float x, float z, Consumer<ClientSession> consumer) {
+        Set<ClientSession> sessions = cells.get(key(cellCoord(x), cellCoord(z)));
+        if (sessions != null) {
+            sessions.forEach(consumer);
+        }
+    }
+
+    private void forEachCell(InterestArea area, Consumer<Long> consumer) {
+        int minX = cellCoord(area.centerX() - area.radius());
+        int maxX = cellCoord(area.centerX() + area.radius());
+        int minZ = cellCoord(area.centerZ() - area.radius());
+        int maxZ = cellCoord(area.centerZ() + area.radius());
+        // long-Zähler, damit die Schleife bei Integer.MAX_VALUE nicht überläuft
+        for (long cx = minX; cx <= maxX; cx++) {
+            for (long cz = minZ; cz <= maxZ; cz++) {
+                consumer.accept(key((int) cx, (int) cz));
+            }
+        }
+    }
+
+    private int cellCoord(float value) {
+        return (int) Math.floor(value / cellSize);
+    }
+
+    private static long key(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xffffffffL);
+    }
+}
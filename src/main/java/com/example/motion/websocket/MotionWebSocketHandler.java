@@ -1,48 +1,251 @@
 package com.example.motion.websocket;
 
-import com.example.motion.interfaces.MotionCallback;
+import com.example.motion.interfaces.ICharacterMotionService;
+import com.example.motion.interfaces.MotionTickListener;
+import com.example.motion.interfaces.ViewerProximity;
 import com.example.motion.sys.model.MotionState;
+import com.example.motion.sys.time.SimulationTime;
+import com.example.motion.visual.VisualEffectsController;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Verteilt Bewegungsupdates an WebSocket-Clients.
+ * Jede Session abonniert einen Interessenbereich (Mittelpunkt und Radius in der XZ-Ebene) und
+ * erhält pro Tick nur die Zustände der Charaktere in diesem Bereich. Die Zuordnung von
+ * Charakterpositionen zu Sessions läuft über einen räumlichen Index der Bereiche.
+ *
+ * Updates werden je Session gesammelt und am Ende des Ticks als ein Frame gesendet; Frames
+ * über der konfigurierten Maximalgröße werden auf mehrere aufgeteilt:
+ * <pre>
+ * { "type": "BATCH_UPDATE", "tick": 42, "time": 700, "updates": [ { "type": "POSITION_UPDATE", ... }, ... ] }
+ * </pre>
+ * Frames sind Snapshots mit Tick-Nummer und Simulationszeit in Millisekunden. Sie werden mit
+ * der konfigurierten Senderate statt in jedem Tick gesendet; der Client interpoliert
+ * zwischen ihnen.
+ *
+ * Mit {@code ?protocol=binary} beim Verbindungsaufbau erhält die Session stattdessen binäre
+ * Frames im Format von {@link BinaryFrameWriter}. Fehlermeldungen bleiben Text.
+ *
+ * Positionsupdates enthalten eine aus den Tick-Zuständen geschätzte Geschwindigkeit, mit der der
+ * Client extrapoliert. Je Session filtert {@link DeadReckoning} alle Updates heraus, die der
+ * Client bereits ausreichend genau vorhersagen kann.
+ *
+ * Gesendet wird weder auf dem Tick-Thread noch auf den Threads des Containers: Jede Session hat
+ * eine begrenzte Warteschlange ({@link OutboundQueue}), die ein Sende-Thread abarbeitet,
+ * höchstens einer je Session. Der Pool hält die konfigurierte Anzahl Threads vor und startet
+ * weitere, wenn alle an blockierten Clients hängen. Ein langsamer Client bremst damit weder
+ * die Simulation noch andere Sessions; seine Updates werden nach der konfigurierten
+ * {@link BackpressurePolicy} verworfen oder zusammengefasst, und bei zu großer Verzögerung wird
+ * die Verbindung geschlossen. Jede Session ist in einen
+ * {@link ConcurrentWebSocketSessionDecorator} gehüllt, damit das Schließen nicht auf einen
+ * hängenden Sendevorgang wartet.
+ *
+ * Client-Nachrichten:
+ * <pre>
+ * { "type": "SUBSCRIBE_AREA", "x": 0.0, "z": 0.0, "radius": 50.0 }
+ * { "type": "UNSUBSCRIBE_AREA" }
+ * { "type": "SUBSCRIBE", "characterId": "..." }
+ * { "type": "UNSUBSCRIBE", "characterId": "..." }
+ * </pre>
+ * Abonnierte Charaktere werden unabhängig vom Interessenbereich gesendet.
+ *
+ * Als {@link ViewerProximity} liefert der Handler den visuellen Effekten den Abstand eines
+ * Charakters zum nächsten Mittelpunkt eines Interessenbereichs, in dem er liegt.
+ */
 @Component
-public class MotionWebSocketHandler extends TextWebSocketHandler {
-    
-    private final Map<WebSocketSession, UUID> sessionCharacterMap = new ConcurrentHashMap<>();
+public class MotionWebSocketHandler extends TextWebSocketHandler
+        implements MotionTickListener, ViewerProximity {
+
+    private static final Logger logger = LoggerFactory.getLogger(MotionWebSocketHandler.class);
+
+    // Liegt der vorige Zustand länger zurück, wird keine Geschwindigkeit daraus geschätzt
+    private static final double MAX_VELOCITY_SAMPLE_SECONDS = 0.25;
+    private static final Velocity AT_REST = new Velocity(0.0f, 0.0f, 0.0f);
+    public static final String PROTOCOL_PARAMETER = "protocol";
+    public static final String BINARY_PROTOCOL = "binary";
+
+    private final Map<String, ClientSession> sessions = new ConcurrentHashMap<>();
+    // Sessions mit vorgemerkten Updates für den nächsten Frame
+    private final Set<ClientSession> pendingSessions = ConcurrentHashMap.newKeySet();
+    private final InterestAreaIndex interestIndex = new InterestAreaIndex();
+    private final SubscriptionIndex subscriptionIndex = new SubscriptionIndex();
+    // Letzter bekannter Zustand je Charakter, auch um Animations- und Layer-Updates zuzuordnen
+    private final Map<UUID, Track> tracks = new ConcurrentHashMap<>();
+    // Charaktere, deren zuletzt verteilte Geschwindigkeit ungleich null ist
+    private final Set<UUID> movingCharacters = ConcurrentHashMap.newKeySet();
     private final ObjectMapper objectMapper;
+    private final WebSocketStreamSettings settings;
+    private final int maxFrameSize;
+    private final ExecutorService sender;
+    // Wiederverwendete Frame-Puffer je Sende-Thread; Frames werden synchron gesendet
+    private final ThreadLocal<StringBuilder> textFrames;
+    private final ThreadLocal<BinaryFrameWriter> binaryFrames;
+    private volatile double lastTickSeconds;
+    // Simulationszeit des letzten Snapshots; nur vom Tick-Thread verwendet
+    private long lastSnapshotNanos;
 
+    public MotionWebSocketHandler(ObjectMapper objectMapper, ICharacterMotionService motionService) {
+        this(objectMapper, motionService, WebSocketStreamSettings.DEFAULTS);
+    }
+
+    public MotionWebSocketHandler(ObjectMapper objectMapper, ICharacterMotionService motionService,
+                                  WebSocketStreamSettings settings) {
+        this(objectMapper, motionService, settings, null);
+    }
+
+    /**
+     * @param visualEffects Effekte, deren Detailgrad sich nach den Betrachtern richtet; oder null
+     */
     @Autowired
-    public MotionWebSocketHandler(ObjectMapper objectMapper) {
+    public MotionWebSocketHandler(ObjectMapper objectMapper, ICharacterMotionService motionService,
+                                  WebSocketStreamSettings settings, VisualEffectsController visualEffects) {
         this.objectMapper = objectMapper;
+        this.settings = settings;
+        this.maxFrameSize = settings.maxFrameSize();
+        this.lastSnapshotNanos = -settings.sendIntervalNanos();
+        this.textFrames = ThreadLocal.withInitial(() -> new StringBuilder(Math.min(maxFrameSize, 16384)));
+        this.binaryFrames = ThreadLocal.withInitial(() -> new BinaryFrameWriter(Math.min(maxFrameSize, 16384)));
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Keine Warteschlange vor dem Pool: ein Drain wartet nie hinter einem blockierten Client
+        this.sender = new ThreadPoolExecutor(settings.senderThreads(), Integer.MAX_VALUE,
+            60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "motion-websocket-sender-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        motionService.addTickListener(this);
+        if (visualEffects != null) {
+            visualEffects.setViewerProximity(this);
+        }
+    }
+
+    /**
+     * Beendet die Sende-Threads.
+     */
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdown();
     }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
-        // Optional: Weise Session einem Character zu und registriere Callback
-        UUID characterId = UUID.randomUUID();
-        sessionCharacterMap.put(session, characterId);
+        // Puffer für Nachrichten, die während eines laufenden Sendevorgangs anfallen
+        WebSocketSession concurrentSession = new ConcurrentWebSocketSessionDecorator(session,
+            (int) Math.min(settings.maxLagMillis(), Integer.MAX_VALUE),
+            (int) Math.min(2L * maxFrameSize, Integer.MAX_VALUE));
+        sessions.put(session.getId(), new ClientSession(concurrentSession,
+            requestsBinaryProtocol(session.getUri()),
+            new DeadReckoning(settings.deadReckoningThreshold(), settings.keyframeInterval()),
+            new OutboundQueue(settings.backpressurePolicy(), settings.queueCapacity())));
     }
 
-    public void sendMotionUpdate(UUID characterId, MotionState state) {
-        MotionUpdate update = new MotionUpdate(
-            "POSITION_UPDATE",
-            characterId,
-            new Position(
-                state.getPosition().getX(),
-                state.getPosition().getY(),
-                state.getPosition().getZ()
-            )
-        );
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        ClientSession client = sessions.remove(session.getId());
+        if (client != null) {
+            interestIndex.update(client, client.getInterestArea(), null);
+            subscriptionIndex.removeSession(client);
+            pendingSessions.remove(client);
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        ClientSession client = sessions.get(session.getId());
+        if (client == null) {
+            return;
+        }
+
+        try {
+            JsonNode request = objectMapper.readTree(message.getPayload());
+            String type = request.path("type").asText();
+            switch (type) {
+                case "SUBSCRIBE_AREA" -> subscribeArea(client, new InterestArea(
+                    (float) request.path("x").asDouble(),
+                    (float) request.path("z").asDouble(),
+                    (float) request.path("radius").asDouble()
+                ));
+                case "UNSUBSCRIBE_AREA" -> subscribeArea(client, null);
+                case "SUBSCRIBE" -> subscriptionIndex.subscribe(client, characterId(request));
+                case "UNSUBSCRIBE" -> subscriptionIndex.unsubscribe(client, characterId(request));
+                default -> throw new IllegalArgumentException("Unbekannter Nachrichtentyp: " + type);
+            }
+        } catch (Exception e) {
+            // Über einen Sende-Thread antworten; der Container-Thread soll nicht am Client blockieren
+            client.enqueueControl(new TextMessage(objectMapper.writeValueAsString(
+                new ErrorMessage("ERROR", e.getMessage()))));
+            if (client.tryScheduleDrain()) {
+                submitDrain(client, null);
+            }
+        }
+    }
+
+    /**
+     * Verteilt die im Tick geänderten Zustände an die Sessions, in deren Bereich sie liegen,
+     * und sendet jeder betroffenen Session einen gebündelten Frame.
+     */
+    @Override
+    public void onTick(SimulationTime time, Collection<MotionState> changedStates) {
+        double seconds = time.getElapsedSeconds();
+        lastTickSeconds = seconds;
+
+        Set<UUID> updated = new HashSet<>();
+        for (MotionState state : changedStates) {
+            updated.add(state.getCharacterId());
+            queueMotionUpdate(state.getCharacterId(), state, seconds);
+        }
+
+        // Ohne neuen Zustand hat sich ein Charakter in diesem Tick nicht bewegt; Clients, die
+        // ihn noch extrapolieren, brauchen ein Update mit Geschwindigkeit null
+        for (UUID characterId : movingCharacters) {
+            Track track = tracks.get(characterId);
+            if (!updated.contains(characterId) && track != null) {
+                movingCharacters.remove(characterId);
+                tracks.put(characterId, new Track(track.position(), AT_REST, seconds));
+                sendUpdateToSubscribers(track.position(), new OutboundUpdate(characterId,
+                    new MotionUpdate("POSITION_UPDATE", characterId, track.position(), AT_REST)));
+            }
+        }
 
-        sendUpdateToSubscribers(characterId, update);
+        if (time.getElapsedNanos() - lastSnapshotNanos >= settings.sendIntervalNanos()) {
+            lastSnapshotNanos = time.getElapsedNanos();
+            flushPendingUpdates(time);
+        }
+    }
+
+    public void sendMotionUpdate(UUID characterId, MotionState state) {
+        SimulationTime time = state.getTime();
+        queueMotionUpdate(characterId, state, time != null ? time.getElapsedSeconds() : lastTickSeconds);
     }
 
     public void sendAnimationUpdate(UUID characterId, String animationId, float progress) {
@@ -53,7 +256,7 @@ public class MotionWebSocketHandler extends TextWebSocketHandler {
             progress
         );
 
-        sendUpdateToSubscribers(characterId, update);
+        sendUpdateToSubscribers(lastPosition(characterId), new OutboundUpdate(characterId, update));
     }
 
     public void sendLayerUpdate(UUID characterId, String activeLayer) {
@@ -63,27 +266,343 @@ public class MotionWebSocketHandler extends TextWebSocketHandler {
             activeLayer
         );
 
-        sendUpdateToSubscribers(characterId, update);
+        sendUpdateToSubscribers(lastPosition(characterId), new OutboundUpdate(characterId, update));
     }
 
-    private void sendUpdateToSubscribers(UUID characterId, Object update) {
-        sessionCharacterMap.entrySet().stream()
-            .filter(entry -> entry.getValue().equals(characterId))
-            .forEach(entry -> {
-                try {
-                    String message = objectMapper.writeValueAsString(update);
-                    entry.getKey().sendMessage(new TextMessage(message));
-                } catch (Exception e) {
-                    // Log error
-                }
-            });
+    private void queueMotionUpdate(UUID characterId, MotionState state, double seconds) {
+        Position position = new Position(
+            state.getPosition().getX(),
+            state.getPosition().getY(),
+            state.getPosition().getZ()
+        );
+
+        Velocity velocity = AT_REST;
+        Track previous = tracks.get(characterId);
+        if (previous != null) {
+            double dt = seconds - previous.time();
+            if (dt > 0 && dt <= MAX_VELOCITY_SAMPLE_SECONDS) {
+                velocity = new Velocity(
+                    (float) ((position.x() - previous.position().x()) / dt),
+                    (float) ((position.y() - previous.position().y()) / dt),
+                    (float) ((position.z() - previous.position().z()) / dt)
+                );
+            }
+        }
+        tracks.put(characterId, new Track(position, velocity, seconds));
+        if (velocity.equals(AT_REST)) {
+            movingCharacters.remove(characterId);
+        } else {
+            movingCharacters.add(characterId);
+        }
+
+        MotionUpdate update = new MotionUpdate(
+            "POSITION_UPDATE",
+            characterId,
+            position,
+            velocity
+        );
+
+        sendUpdateToSubscribers(position, new OutboundUpdate(characterId, update));
+    }
+
+    /**
+     * Explizit abonnierte Charaktere gelten als im Blick; sonst zählen die Mittelpunkte der
+     * Interessenbereiche, die die Position enthalten.
+     */
+    @Override
+    public float nearestViewerDistance(UUID characterId, float x, float z) {
+        if (subscriptionIndex.hasSubscribers(characterId)) {
+            return 0.0f;
+        }
+        float[] nearest = {Float.POSITIVE_INFINITY};
+        interestIndex.forEachCandidate(x, z, client -> {
+            InterestArea area = client.getInterestArea();
+            if (area != null && area.contains(x, z)) {
+                float dx = x - area.centerX();
+                float dz = z - area.centerZ();
+                nearest[0] = Math.min(nearest[0], (float) Math.sqrt(dx * dx + dz * dz));
+            }
+        });
+        return nearest[0];
+    }
+
+    private Position lastPosition(UUID characterId) {
+        Track track = tracks.get(characterId);
+        return track != null ? track.position() : null;
+    }
+
+    private void subscribeArea(ClientSession client, InterestArea area) {
+        InterestArea previous = client.getInterestArea();
+        client.setInterestArea(area);
+        interestIndex.update(client, previous, area);
     }
 
+    private static boolean requestsBinaryProtocol(URI uri) {
+        if (uri == null) {
+            return false;
+        }
+        String protocol = UriComponentsBuilder.fromUri(uri).build().getQueryParams().getFirst(PROTOCOL_PARAMETER);
+        return BINARY_PROTOCOL.equals(protocol);
+    }
+
+    private static UUID characterId(JsonNode request) {
+        String value = request.path("characterId").asText(null);
+        if (value == null) {
+            throw new IllegalArgumentException("characterId fehlt");
+        }
+        return UUID.fromString(value);
+    }
+
+    /**
+     * Reiht ein Update bei den Abonnenten des Charakters und den Sessions ein, in deren
+     * Interessenbereich die Position liegt; jede Session erhält es höchstens einmal.
+     *
+     * @param position Position des Charakters oder null, wenn sie noch unbekannt ist
+     */
+    private void sendUpdateToSubscribers(Position position, OutboundUpdate update) {
+        UUID characterId = update.getCharacterId();
+        subscriptionIndex.forEachSubscriber(characterId, client -> enqueue(client, update));
+
+        if (position == null) {
+            return;
+        }
+        interestIndex.forEachCandidate(position.x(), position.z(), client -> {
+            if (client.isInterestedIn(position.x(), position.z())
+                    && !subscriptionIndex.isSubscribed(client, characterId)) {
+                enqueue(client, update);
+            }
+        });
+    }
+
+    private void enqueue(ClientSession client, OutboundUpdate update) {
+        client.enqueue(update);
+        pendingSessions.add(client);
+    }
+
+    /**
+     * Übergibt alle Sessions mit wartenden Updates an die Sende-Threads. Sessions, deren
+     * vorheriger Frame noch gesendet wird, bleiben vorgemerkt; ihre Updates sammeln sich
+     * in der Warteschlange.
+     */
+    private void flushPendingUpdates(SimulationTime time) {
+        long now = System.nanoTime();
+        long maxLagNanos = TimeUnit.MILLISECONDS.toNanos(settings.maxLagMillis());
+        for (ClientSession client : pendingSessions) {
+            long lag = client.getPendingUpdates().getOldestAgeNanos(now);
+            if (lag > maxLagNanos) {
+                closeSlowConsumer(client, lag);
+                continue;
+            }
+            if (!client.tryScheduleDrain()) {
+                continue;
+            }
+            pendingSessions.remove(client);
+            submitDrain(client, time);
+        }
+    }
+
+    /**
+     * Übergibt eine mit {@link ClientSession#tryScheduleDrain()} reservierte Session an einen
+     * Sende-Thread.
+     *
+     * @param time Zeitpunkt des Frames oder null, um nur die vorgemerkten Antworten zu senden
+     */
+    private void submitDrain(ClientSession client, SimulationTime time) {
+        try {
+            sender.execute(() -> drain(client, time));
+        } catch (RejectedExecutionException e) {
+            client.drainFinished();
+        }
+    }
+
+    /**
+     * Sendet die vorgemerkten Antworten und wartenden Updates einer Session; läuft auf einem
+     * Sende-Thread.
+     */
+    private void drain(ClientSession client, SimulationTime time) {
+        try {
+            for (WebSocketMessage<?> message : client.drainControlMessages()) {
+                send(client, message);
+            }
+            if (time != null) {
+                drainUpdates(client, time);
+            }
+        } catch (Exception e) {
+            logger.warn("Frame an Session {} fehlgeschlagen: {}", client.getId(), e.getMessage());
+        } finally {
+            client.drainFinished();
+        }
+        // Während des Sendens eingetroffene Antworten nicht bis zum nächsten Frame liegen lassen
+        if (client.hasControlMessages() && client.tryScheduleDrain()) {
+            submitDrain(client, null);
+        }
+    }
+
+    private void drainUpdates(ClientSession client, SimulationTime time) throws Exception {
+        long tick = time.getTick();
+        long timeMillis = time.getElapsedMillis();
+        double seconds = time.getElapsedSeconds();
+        long oldestAge = client.getPendingUpdates().getOldestAgeNanos(System.nanoTime());
+        long drainedAt = System.nanoTime();
+        List<OutboundUpdate> updates = client.drainPendingUpdates();
+        DeadReckoning deadReckoning = client.getDeadReckoning();
+        updates.removeIf(update -> update.getMessage() instanceof MotionUpdate motion
+            && !deadReckoning.shouldSend(update.getCharacterId(),
+                motion.position().x(), motion.position().y(), motion.position().z(),
+                motion.velocity().x(), motion.velocity().y(), motion.velocity().z(),
+                seconds, tick));
+        deadReckoning.prune(tick);
+        if (!updates.isEmpty()) {
+            if (client.isBinary()) {
+                sendBinaryBatches(client, tick, timeMillis, updates);
+            } else {
+                sendBatches(client, tick, timeMillis, updates);
+            }
+            // Verzögerung vom Einreihen des ältesten Updates bis zum Abschluss des Sendens
+            client.recordLag(oldestAge + System.nanoTime() - drainedAt);
+        }
+    }
+
+    private void closeSlowConsumer(ClientSession client, long lagNanos) {
+        pendingSessions.remove(client);
+        if (!client.markClosing()) {
+            return;
+        }
+        logger.warn("Session {} ist {} ms im Rückstand und wird geschlossen",
+            client.getId(), TimeUnit.NANOSECONDS.toMillis(lagNanos));
+        // Auch das Schließen kann bei einem hängenden Client blockieren
+        CompletableFuture.runAsync(() -> {
+            try {
+                client.getSession().close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (Exception e) {
+                logger.debug("Schließen der Session {} fehlgeschlagen: {}", client.getId(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Liefert die Sende-Metriken aller verbundenen Sessions.
+     */
+    public List<SessionStats> getSessionStats() {
+        long now = System.nanoTime();
+        List<SessionStats> stats = new ArrayList<>(sessions.size());
+        for (ClientSession client : sessions.values()) {
+            OutboundQueue queue = client.getPendingUpdates();
+            stats.add(new SessionStats(
+                client.getId(),
+                subscriptionIndex.getSubscriptionCount(client),
+                queue.size(),
+                queue.getDroppedUpdates(),
+                client.getSentFrames(),
+                client.getSentBytes(),
+                TimeUnit.NANOSECONDS.toMillis(queue.getOldestAgeNanos(now)),
+                TimeUnit.NANOSECONDS.toMillis(client.getLastLagNanos()),
+                TimeUnit.NANOSECONDS.toMillis(client.getMaxLagNanos())
+            ));
+        }
+        return stats;
+    }
+
+    private void send(ClientSession client, WebSocketMessage<?> message) throws Exception {
+        // Vor dem Senden lesen; ein gesendeter ByteBuffer ist danach aufgebraucht
+        int length = message.getPayloadLength();
+        client.send(message);
+        client.recordSent(length);
+    }
+
+    private void sendBatches(ClientSession client, long tick, long timeMillis,
+                             List<OutboundUpdate> updates) throws Exception {
+        String prefix = "{\"type\":\"BATCH_UPDATE\",\"tick\":" + tick + ",\"time\":" + timeMillis + ",\"updates\":[";
+        StringBuilder frame = textFrames.get();
+        frame.setLength(0);
+        frame.append(prefix);
+        int count = 0;
+        for (OutboundUpdate outbound : updates) {
+            String update = outbound.toJson(objectMapper);
+            // Platz für Komma und die schließenden Klammern "]}"
+            if (count > 0 && frame.length() + update.length() + 3 > maxFrameSize) {
+                send(client, new TextMessage(frame.append("]}").toString()));
+                frame.setLength(0);
+                frame.append(prefix);
+                count = 0;
+            }
+            if (count > 0) {
+                frame.append(',');
+            }
+            frame.append(update);
+            count++;
+        }
+        send(client, new TextMessage(frame.append("]}").toString()));
+    }
+
+    private void sendBinaryBatches(ClientSession client, long tick, long timeMillis,
+                                   List<OutboundUpdate> updates) throws Exception {
+        BinaryFrameWriter writer = binaryFrames.get();
+        writer.begin(tick, timeMillis);
+        for (OutboundUpdate update : updates) {
+            UUID characterId = update.getCharacterId();
+            byte[] record = update.toBinaryRecord(MotionWebSocketHandler::encodeBinaryRecord);
+            int shortId = client.getShortId(characterId);
+            boolean announce = shortId < 0;
+
+            int recordSize = record.length + (announce ? BinaryFrameWriter.CHARACTER_ID_RECORD_SIZE : 0);
+            if (writer.getRecordCount() > 0 && writer.size() + recordSize > maxFrameSize) {
+                send(client, writer.finish());
+                writer.begin(tick, timeMillis);
+            }
+
+            if (announce) {
+                shortId = client.assignShortId(characterId);
+                writer.writeCharacterId(shortId, characterId);
+            }
+            writer.writeRecord(shortId, record);
+        }
+        if (writer.getRecordCount() > 0) {
+            send(client, writer.finish());
+        }
+    }
+
+    private static byte[] encodeBinaryRecord(Object message) {
+        if (message instanceof MotionUpdate motion) {
+            Position p = motion.position();
+            Velocity v = motion.velocity();
+            return BinaryFrameWriter.positionRecord(p.x(), p.y(), p.z(), v.x(), v.y(), v.z());
+        } else if (message instanceof AnimationUpdate animation) {
+            return BinaryFrameWriter.animationRecord(animation.animationId(), animation.progress());
+        } else if (message instanceof LayerUpdate layer) {
+            return BinaryFrameWriter.layerRecord(layer.activeLayer());
+        }
+        throw new IllegalArgumentException("Kein Binärformat für " + message.getClass().getSimpleName());
+    }
+
+    /**
+     * Sende-Metriken einer Session.
+     *
+     * @param subscribedCharacters Anzahl explizit abonnierter Charaktere
+     * @param queuedUpdates Aktuell wartende Updates
+     * @param droppedUpdates Wegen voller Warteschlange verworfene Updates
+     * @param currentLagMillis Wartezeit des ältesten wartenden Updates
+     * @param lastLagMillis Verzögerung des zuletzt gesendeten Frames
+     * @param maxLagMillis Größte bisher gemessene Verzögerung
+     */
+    public record SessionStats(
+        String sessionId,
+        int subscribedCharacters,
+        int queuedUpdates,
+        long droppedUpdates,
+        long sentFrames,
+        long sentBytes,
+        long currentLagMillis,
+        long lastLagMillis,
+        long maxLagMillis
+    ) {}
+
     // Update message classes
     private record MotionUpdate(
         String type,
         UUID characterId,
-        Position position
+        Position position,
+        Velocity velocity
     ) {}
 
     private record AnimationUpdate(
@@ -99,9 +618,26 @@ public class MotionWebSocketHandler extends TextWebSocketHandler {
         String activeLayer
     ) {}
 
+    private record ErrorMessage(
+        String type,
+        String message
+    ) {}
+
     private record Position(
         float x,
         float y,
         float z
     ) {}
+
+    private record Velocity(
+        float x,
+        float y,
+        float z
+    ) {}
+
+    private record Track(
+        Position position,
+        Velocity velocity,
+        double time
+    ) {}
 }
@@ -0,0 +1,85 @@
+package com.example.motion.websocket;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Begrenzte Warteschlange der noch nicht gesendeten Updates einer Session.
+ * Produzenten (Tick-Thread, Animations-Callbacks) und der Sende-Thread greifen gleichzeitig zu;
+ * alle Operationen sind daher synchronisiert und kurz.
+ */
+final class OutboundQueue {
+
+    private final BackpressurePolicy policy;
+    private final int capacity;
+    private final ArrayDeque<OutboundUpdate> queue = new ArrayDeque<>();
+    // Für COALESCE_LATEST: ein Eintrag je Charakter und Update-Typ in Einfügereihenfolge
+    private final LinkedHashMap<CoalesceKey, OutboundUpdate> latest = new LinkedHashMap<>();
+    private long droppedUpdates;
+    // Einfügezeitpunkt des ältesten wartenden Updates, 0 bei leerer Warteschlange
+    private long oldestEnqueueNanos;
+
+    OutboundQueue(BackpressurePolicy policy, int capacity) {
+        this.policy = policy;
+        this.capacity = capacity;
+    }
+
+    synchronized void offer(OutboundUpdate update) {
+        if (oldestEnqueueNanos == 0) {
+            oldestEnqueueNanos = System.nanoTime();
+        }
+        if (policy == BackpressurePolicy.COALESCE_LATEST) {
+            CoalesceKey key = new CoalesceKey(update.getCharacterId(), update.getMessage().getClass());
+            if (latest.remove(key) == null && latest.size() >= capacity) {
+                Iterator<OutboundUpdate> oldest = latest.values().iterator();
+                oldest.next();
+                oldest.remove();
+                droppedUpdates++;
+            }
+            latest.put(key, update);
+        } else {
+            if (queue.size() >= capacity) {
+                queue.pollFirst();
+                droppedUpdates++;
+            }
+            queue.addLast(update);
+        }
+    }
+
+    /**
+     * Entnimmt alle wartenden Updates in Einfügereihenfolge.
+     */
+    synchronized List<OutboundUpdate> drain() {
+        List<OutboundUpdate> updates;
+        if (policy == BackpressurePolicy.COALESCE_LATEST) {
+            updates = new ArrayList<>(latest.values());
+            latest.clear();
+        } else {
+            updates = new ArrayList<>(queue);
+            queue.clear();
+        }
+        oldestEnqueueNanos = 0;
+        return updates;
+    }
+
+    synchronized int size() {
+        return policy == BackpressurePolicy.COALESCE_LATEST ? latest.size() : queue.size();
+    }
+
+    synchronized long getDroppedUpdates() {
+        return droppedUpdates;
+    }
+
+    /**
+     * Wartezeit des ältesten Updates in Nanosekunden, 0 bei leerer Warteschlange.
+     */
+    synchronized long getOldestAgeNanos(long nowNanos) {
+        return oldestEnqueueNanos == 0 ? 0 : nowNanos - oldestEnqueueNanos;
+    }
+
+    private record CoalesceKey(UUID characterId, Class<?> type) {}
+}
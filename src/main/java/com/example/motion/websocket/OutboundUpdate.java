@@ -0,0 +1,54 @@
+package com.example.motion.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Ein Update, das an mehrere Sessions geht.
+ * JSON- und Binärform werden erst bei Bedarf und dann nur einmal erzeugt; alle Sessions
+ * teilen sich das Ergebnis, das danach nicht mehr verändert wird.
+ */
+final class OutboundUpdate {
+
+    private final UUID characterId;
+    private final Object message;
+    private volatile String json;
+    private volatile byte[] binaryRecord;
+
+    OutboundUpdate(UUID characterId, Object message) {
+        this.characterId = characterId;
+        this.message = message;
+    }
+
+    UUID getCharacterId() {
+        return characterId;
+    }
+
+    Object getMessage() {
+        return message;
+    }
+
+    String toJson(ObjectMapper objectMapper) throws JsonProcessingException {
+        String result = json;
+        if (result == null) {
+            result = objectMapper.writeValueAsString(message);
+            json = result;
+        }
+        return result;
+    }
+
+    /**
+     * Liefert den Binär-Record mit Short-Id 0; Aufrufer kopieren ihn, statt ihn zu verändern.
+     */
+    byte[] toBinaryRecord(Function<Object, byte[]> encoder) {
+        byte[] result = binaryRecord;
+        if (result == null) {
+            result = encoder.apply(message);
+            binaryRecord = result;
+        }
+        return result;
+    }
+}
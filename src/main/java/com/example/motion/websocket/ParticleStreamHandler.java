@@ -0,0 +1,186 @@
+package com.example.motion.websocket;
+
+import com.example.motion.visual.VisualEffectsController;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streamt die Partikel des Servers als binäre Frames an den Browser-Renderer.
+ *
+ * Mit der konfigurierten Rate wird der Snapshot des Partikelsystems einmal kodiert
+ * ({@link com.example.motion.visual.particle.ParticleSystem#encodeFrame()}) und derselbe Frame
+ * an alle Sessions gesendet; der Client extrapoliert die Partikel bis zum nächsten Frame.
+ * Sendet eine Session noch den vorigen Frame, wird der neue für sie übersprungen, da jeder
+ * Frame den vollständigen Zustand enthält. Solange keine Partikel aktiv sind, wird nach
+ * einem leeren Frame nichts mehr gesendet; neue Sessions erhalten trotzdem einen ersten Frame.
+ */
+@Component
+public class ParticleStreamHandler extends BinaryWebSocketHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticleStreamHandler.class);
+
+    private final Map<String, ParticleClient> sessions = new ConcurrentHashMap<>();
+    private final VisualEffectsController visualEffects;
+    private final ScheduledExecutorService streamer;
+    private final ExecutorService sender;
+    // Nur vom Stream-Thread verwendet; neue Sessions markieren sich selbst in ParticleClient
+    private boolean lastFrameEmpty;
+
+    /**
+     * @param streamRate Frames je Sekunde
+     * @param senderThreads Anzahl der Sende-Threads
+     */
+    @Autowired
+    public ParticleStreamHandler(VisualEffectsController visualEffects,
+                                 @Value("${motion.particles.stream-rate:20}") int streamRate,
+                                 @Value("${motion.particles.sender-threads:2}") int senderThreads) {
+        if (streamRate < 1) {
+            throw new IllegalArgumentException("streamRate muss positiv sein: " + streamRate);
+        }
+        if (senderThreads < 1) {
+            throw new IllegalArgumentException("senderThreads muss positiv sein: " + senderThreads);
+        }
+        this.visualEffects = visualEffects;
+        this.streamer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "particle-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "particle-websocket-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / streamRate;
+        streamer.scheduleAtFixedRate(this::streamFrame, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Beendet Stream- und Sende-Threads.
+     */
+    @PreDestroy
+    public void shutdown() {
+        streamer.shutdown();
+        sender.shutdown();
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        sessions.put(session.getId(), new ParticleClient(session));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        sessions.remove(session.getId());
+    }
+
+    /**
+     * Kodiert den aktuellen Snapshot und verteilt ihn an alle Sessions.
+     */
+    private void streamFrame() {
+        try {
+            if (sessions.isEmpty()) {
+                return;
+            }
+            boolean empty = visualEffects.getParticleStats().activeParticles() == 0;
+            // Weitere leere Frames erhalten nur Sessions, die noch keinen Frame bekommen haben
+            boolean onlyNewSessions = empty && lastFrameEmpty;
+            lastFrameEmpty = empty;
+
+            ByteBuffer frame = null;
+            for (ParticleClient client : sessions.values()) {
+                if (onlyNewSessions && client.receivedFrame) {
+                    continue;
+                }
+                if (!client.tryStartSend()) {
+                    client.droppedFrames++;
+                    continue;
+                }
+                if (frame == null) {
+                    frame = visualEffects.encodeParticleFrame().asReadOnlyBuffer();
+                }
+                client.receivedFrame = true;
+                ByteBuffer clientFrame = frame.duplicate();
+                try {
+                    sender.execute(() -> send(client, clientFrame));
+                } catch (RejectedExecutionException e) {
+                    client.sendFinished();
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Fehler beim Streamen der Partikel", e);
+        }
+    }
+
+    private void send(ParticleClient client, ByteBuffer frame) {
+        try {
+            WebSocketSession session = client.session;
+            if (session.isOpen()) {
+                session.sendMessage(new BinaryMessage(frame));
+            }
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Partikel-Frame an Session {} nicht gesendet: {}", client.session.getId(), e.getMessage());
+        } finally {
+            client.sendFinished();
+        }
+    }
+
+    /**
+     * Liefert die Anzahl verbundener Sessions.
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Liefert die Anzahl der Frames, die für eine Session übersprungen wurden, weil sie den
+     * vorigen noch sendete.
+     */
+    public long getDroppedFrames(String sessionId) {
+        ParticleClient client = sessions.get(sessionId);
+        return client != null ? client.droppedFrames : 0;
+    }
+
+    private static final class ParticleClient {
+        final WebSocketSession session;
+        // Höchstens ein Sendevorgang je Session, WebSocketSession erlaubt keine gleichzeitigen
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // Geschrieben nur vom Stream-Thread
+        volatile long droppedFrames;
+        // Nur vom Stream-Thread verwendet; false, bis der erste Frame zum Senden übergeben ist
+        boolean receivedFrame;
+
+        ParticleClient(WebSocketSession session) {
+            this.session = session;
+        }
+
+        boolean tryStartSend() {
+            return sending.compareAndSet(false, true);
+        }
+
+        void sendFinished() {
+            sending.set(false);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.motion.websocket;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Bidirektionaler Index der expliziten Charakter-Abonnements.
+ * Für ein Update werden nur die tatsächlichen Abonnenten des Charakters besucht; beim Schließen
+ * einer Session liefert die Gegenrichtung alle Einträge, die zu entfernen sind.
+ */
+class SubscriptionIndex {
+
+    static final int MAX_SUBSCRIPTIONS_PER_SESSION = 1024;
+
+    // Charakter -> Sessions
+    private final Map<UUID, Set<ClientSession>> subscribers = new ConcurrentHashMap<>();
+    // Session -> Charaktere
+    private final Map<ClientSession, Set<UUID>> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * Abonniert die Updates eines Charakters.
+     *
+     * @throws IllegalStateException wenn die Session bereits zu viele Abonnements hat
+     */
+    void subscribe(ClientSession session, UUID characterId) {
+        Set<UUID> characters = subscriptions.computeIfAbsent(session, s -> ConcurrentHashMap.newKeySet());
+        if (!characters.contains(characterId) && characters.size() >= MAX_SUBSCRIPTIONS_PER_SESSION) {
+            throw new IllegalStateException(
+                "Maximal " + MAX_SUBSCRIPTIONS_PER_SESSION + " Abonnements je Verbindung erlaubt");
+        }
+        characters.add(characterId);
+        // compute hält Entfernen leerer Einträge und Hinzufügen atomar zueinander
+        subscribers.compute(characterId, (id, sessions) -> {
+            Set<ClientSession> result = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+            result.add(session);
+            return result;
+        });
+    }
+
+    void unsubscribe(ClientSession session, UUID characterId) {
+        Set<UUID> characters = subscriptions.get(session);
+        if (characters != null) {
+            characters.remove(characterId);
+        }
+        removeSubscriber(characterId, session);
+    }
+
+    /**
+     * Entfernt alle Abonnements einer Session.
+     */
+    void removeSession(ClientSession session) {
+        Set<UUID> characters = subscriptions.remove(session);
+        if (characters != null) {
+            for (UUID characterId : characters) {
+                removeSubscriber(characterId, session);
+            }
+        }
+    }
+
+    boolean isSubscribed(ClientSession session, UUID characterId) {
+        Set<UUID> characters = subscriptions.get(session);
+        return characters != null && characters.contains(characterId);
+    }
+
+    boolean hasSubscribers(UUID characterId) {
+        return subscribers.containsKey(characterId);
+    }
+
+    int getSubscriptionCount(ClientSession session) {
+        Set<UUID> characters = subscriptions.get(session);
+        return characters != null ? characters.size() : 0;
+    }
+
+    /**
+     * Besucht alle Sessions, die den Charakter abonniert haben.
+     */
+    void forEachSubscriber(UUID characterId, Consumer<ClientSession> consumer) {
+        Set<ClientSession> sessions = subscribers.get(characterId);
+        if (sessions != null) {
+            sessions.forEach(consumer);
+        }
+    }
+
+    private void removeSubscriber(UUID characterId, ClientSession session) {
+        subscribers.computeIfPresent(characterId, (id, sessions) -> {
+            sessions.remove(session);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.motion.websocket;
+
+/**
+ * Einstellungen für das Streaming der Bewegungsupdates an WebSocket-Clients.
+ *
+ * @param maxFrameSize Maximale Länge eines Frames in Zeichen bzw. Bytes; ein einzelnes größeres
+ *                     Update wird trotzdem in einem eigenen Frame gesendet
+ * @param deadReckoningThreshold Zulässige Abweichung der Client-Vorhersage in Metern
+ * @param keyframeInterval Maximaler Abstand zweier Positionsupdates eines Charakters in Ticks
+ * @param backpressurePolicy Verhalten bei voller Warteschlange einer Session
+ * @param queueCapacity Maximale Anzahl wartender Updates je Session
+ * @param maxLagMillis Verzögerung, ab der eine Session als zu langsam geschlossen wird
+ * @param senderThreads Anzahl der vorgehaltenen Threads, die die Warteschlangen der Sessions
+ *                      abarbeiten; hängen alle an blockierten Clients, werden weitere gestartet
+ * @param sendRate Snapshots je Sekunde; Updates dazwischen werden gesammelt
+ */
+public record WebSocketStreamSettings(
+    int maxFrameSize,
+    float deadReckoningThreshold,
+    long keyframeInterval,
+    BackpressurePolicy backpressurePolicy,
+    int queueCapacity,
+    long maxLagMillis,
+    int senderThreads,
+    int sendRate
+) {
+
+    public static final WebSocketStreamSettings DEFAULTS = new WebSocketStreamSettings(
+        65536, 0.1f, 60, BackpressurePolicy.COALESCE_LATEST, 4096, 5000, 4, 20);
+
+    public WebSocketStreamSettings {
+        if (maxFrameSize <= 0) {
+            throw new IllegalArgumentException("Maximale Framegröße muss positiv sein: " + maxFrameSize);
+        }
+        if (!(deadReckoningThreshold >= 0)) {
+            throw new IllegalArgumentException("Dead-Reckoning-Schwelle darf nicht negativ sein: " + deadReckoningThreshold);
+        }
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Keyframe-Intervall muss positiv sein: " + keyframeInterval);
+        }
+        if (backpressurePolicy == null) {
+            throw new IllegalArgumentException("Backpressure-Strategie darf nicht null sein");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Kapazität der Warteschlange muss positiv sein: " + queueCapacity);
+        }
+        if (maxLagMillis <= 0) {
+            throw new IllegalArgumentException("Maximale Verzögerung muss positiv sein: " + maxLagMillis);
+        }
+        if (senderThreads <= 0) {
+            throw new IllegalArgumentException("Anzahl der Sende-Threads muss positiv sein: " + senderThreads);
+        }
+        if (sendRate <= 0) {
+            throw new IllegalArgumentException("Senderate muss positiv sein: " + sendRate);
+        }
+    }
+
+    /**
+     * Mindestabstand zweier Snapshots in Nanosekunden.
+     */
+    public long sendIntervalNanos() {
+        return 1_000_000_000L / sendRate;
+    }
+}
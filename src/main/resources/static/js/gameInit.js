@@ -185,12 +185,16 @@ function setupEventListeners() {
     }
 }
 
+// Dynamisch geladenes WebSocket-Modul, sobald verfügbar
+let webSocketModule = null;
+
 // Startet die Initialisierung des Spiels
 async function startInitializing() {
     try {
         // WebSocket-Verbindung herstellen
         try {
             const wsModule = await import('./webSocketHandler.js');
+            webSocketModule = wsModule;
             wsModule.connectWebSocket();
         } catch (e) {
             console.warn("WebSocket konnte nicht initialisiert werden:", e);
@@ -199,6 +203,9 @@ async function startInitializing() {
         
         // Charakter erstellen
         await createCharacter();
+        if (webSocketModule) {
+            webSocketModule.subscribeOwnCharacter();
+        }
         
         // Mit Walking Layer beginnen
         await setActiveLayer("BasicWalkingLayer");
@@ -304,6 +311,11 @@ function startGameLoop() {
         
         // Magnetische Bewegung aktualisieren
         updateMagneticMovement();
+
+        // Serverposition aus dem Snapshot-Puffer interpolieren
+        if (webSocketModule) {
+            webSocketModule.interpolatePosition();
+        }
         
         // Charakter zeichnen
         drawCharacter();
@@ -3,7 +3,12 @@
  * Frontend-Komponente für die Darstellung und Verwaltung der visuellen Effekte
  */
 
-import { gameState, canvas, ctx } from './game.js';
+import { gameState, canvas, ctx, GRID_SIZE } from './game.js';
+
+// Binärer Partikel-Stream des Servers (Format siehe ParticleFrameWriter)
+const PARTICLE_STREAM_URL = "ws://" + window.location.host + "/particle-updates";
+const FRAME_PARTICLES = 1;
+const PARTICLE_HEADER_SIZE = 12;
 
 // Globale Variable für den Zugriff aus anderen Modulen
 window.visualEffects = null;
@@ -24,6 +29,11 @@ class VisualEffects {
         this.footsteps = [];
         this.particles = [];
         
+        // Letzter Frame des Partikel-Streams und Empfangszeitpunkt
+        this.serverParticles = null;
+        this.serverParticlesReceivedAt = 0;
+        this.particleSocket = null;
+        
         // Animation IDs für requestAnimationFrame
         this.animationFrameId = null;
         
@@ -32,6 +42,7 @@ class VisualEffects {
             enabled: true,
             footstepsEnabled: true,
             particlesEnabled: true,
+            serverParticlesEnabled: true,
             maxFootsteps: 30,
             maxParticles: 100,
             footstepFadeOutTime: 5000,
@@ -41,6 +52,36 @@ class VisualEffects {
         
         // Starte die Render-Schleife
         this.startRenderLoop();
+        
+        if (this.config.serverParticlesEnabled) {
+            this.connectParticleStream();
+        }
+    }
+    
+    /**
+     * Verbindet mit dem Partikel-Stream des Servers; bei Verbindungsabbruch wird nach
+     * drei Sekunden neu verbunden
+     */
+    connectParticleStream() {
+        const socket = new WebSocket(PARTICLE_STREAM_URL);
+        socket.binaryType = 'arraybuffer';
+        
+        socket.onmessage = (event) => {
+            const frame = decodeParticleFrame(event.data);
+            if (frame) {
+                this.serverParticles = frame;
+                this.serverParticlesReceivedAt = performance.now();
+            }
+        };
+        
+        socket.onclose = () => {
+            this.serverParticles = null;
+            if (this.config.serverParticlesEnabled) {
+                setTimeout(() => this.connectParticleStream(), 3000);
+            }
+        };
+        
+        this.particleSocket = socket;
     }
     
     /**
@@ -123,6 +164,44 @@ class VisualEffects {
         if (this.config.particlesEnabled && this.particles.length > 0) {
             this.renderParticles();
         }
+        
+        // Zeichne Partikel des Servers
+        if (this.config.particlesEnabled && this.serverParticles && this.serverParticles.count > 0) {
+            this.renderServerParticles();
+        }
+    }
+    
+    /**
+     * Rendert die Partikel des letzten Server-Frames. Zwischen zwei Frames werden Position
+     * und Alter mit Geschwindigkeit und Beschleunigung aus dem Frame fortgeschrieben;
+     * die Höhe (y) verschiebt das Partikel auf dem Canvas nach oben
+     */
+    renderServerParticles() {
+        const p = this.serverParticles;
+        const dt = (performance.now() - this.serverParticlesReceivedAt) / 1000;
+        const dtMillis = dt * 1000;
+        
+        this.ctx.save();
+        for (let i = 0; i < p.count; i++) {
+            const age = p.age[i] + dtMillis;
+            if (age >= p.lifetime[i]) {
+                continue;
+            }
+            const progress = age / p.lifetime[i];
+            const startAlpha = p.startAlpha[i] / 255;
+            const endAlpha = p.endAlpha[i] / 255;
+            
+            const x = p.x[i] + p.vx[i] * dt;
+            const y = p.y[i] + p.vy[i] * dt + 0.5 * p.ay[i] * dt * dt;
+            const z = p.z[i] + p.vz[i] * dt;
+            
+            this.ctx.globalAlpha = Math.max(0, Math.min(1, startAlpha + (endAlpha - startAlpha) * progress));
+            this.ctx.fillStyle = `rgb(${p.red[i]}, ${p.green[i]}, ${p.blue[i]})`;
+            this.ctx.beginPath();
+            this.ctx.arc(x, z - y, Math.max(1, p.size[i] * GRID_SIZE), 0, Math.PI * 2);
+            this.ctx.fill();
+        }
+        this.ctx.restore();
     }
     
     /**
@@ -522,3 +601,53 @@ class VisualEffects {
         }
     }
 }
+
+/**
+ * Liest einen binären Partikel-Frame. Die Attribut-Arrays sind Sichten auf den
+ * empfangenen Puffer und werden nicht kopiert
+ */
+function decodeParticleFrame(buffer) {
+    const view = new DataView(buffer);
+    if (buffer.byteLength < PARTICLE_HEADER_SIZE || view.getUint8(0) !== FRAME_PARTICLES) {
+        console.error("Unbekannter Partikel-Frame");
+        return null;
+    }
+    const time = view.getUint32(4, true);
+    const count = view.getUint32(8, true);
+    
+    let offset = PARTICLE_HEADER_SIZE;
+    const floats = () => {
+        const array = new Float32Array(buffer, offset, count);
+        offset += count * 4;
+        return array;
+    };
+    const shorts = () => {
+        const array = new Uint16Array(buffer, offset, count);
+        offset += count * 2;
+        return array;
+    };
+    const bytes = () => {
+        const array = new Uint8Array(buffer, offset, count);
+        offset += count;
+        return array;
+    };
+    
+    // Reihenfolge wie im Frame
+    const frame = { time, count };
+    frame.x = floats();
+    frame.y = floats();
+    frame.z = floats();
+    frame.vx = floats();
+    frame.vy = floats();
+    frame.vz = floats();
+    frame.ay = floats();
+    frame.size = floats();
+    frame.age = shorts();
+    frame.lifetime = shorts();
+    frame.red = bytes();
+    frame.green = bytes();
+    frame.blue = bytes();
+    frame.startAlpha = bytes();
+    frame.endAlpha = bytes();
+    return frame;
+}
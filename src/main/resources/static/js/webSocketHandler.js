@@ -1,6 +1,34 @@
 import { gameState, updateConnectionStatus, updateCharacterState } from './game.js';
 
-const WS_URL = "ws://" + window.location.host + "/motion-updates";
+// Binäres Protokoll: kompakte Frames mit Short-Ids und Festkomma-Positionen
+const WS_URL = "ws://" + window.location.host + "/motion-updates?protocol=binary";
+
+// Konstanten des Binärprotokolls (siehe BinaryFrameWriter)
+const FRAME_BATCH = 1;
+const RECORD_CHARACTER_ID = 1;
+const RECORD_POSITION = 2;
+const RECORD_ANIMATION = 3;
+const RECORD_LAYER = 4;
+const POSITION_SCALE = 256;
+const VELOCITY_SCALE = 256;
+
+const textDecoder = new TextDecoder();
+
+// Radius des abonnierten Interessenbereichs um den eigenen Charakter
+const INTEREST_RADIUS = 200;
+
+// Gerendert wird so weit hinter der Serverzeit, dass meist zwei Snapshots zum Interpolieren da sind
+const INTERPOLATION_DELAY_MS = 100;
+const MAX_BUFFERED_SNAPSHOTS = 32;
+
+let subscribedCenter = null;
+let subscribedCharacterId = null;
+// Snapshots des eigenen Charakters (Serverzeit in ms, Position, Geschwindigkeit), aufsteigend nach Zeit
+let snapshots = [];
+// Geschätzte Differenz Serverzeit - performance.now()
+let serverClockOffset = null;
+// Short-Id -> Charakter-UUID, gilt je Verbindung
+let characterIds = new Map();
 
 /**
  * Stellt eine WebSocket-Verbindung her
@@ -23,29 +51,33 @@ export function connectWebSocket() {
 
     try {
         gameState.webSocket = new WebSocket(WS_URL);
+        gameState.webSocket.binaryType = "arraybuffer";
+        characterIds = new Map();
+        snapshots = [];
+        serverClockOffset = null;
 
         gameState.webSocket.onopen = () => {
             console.log("WebSocket connected");
             gameState.offlineMode = false;
             updateConnectionStatus();
+            subscribedCenter = null;
+            subscribedCharacterId = null;
+            updateInterestArea();
+            subscribeOwnCharacter();
         };
 
         gameState.webSocket.onmessage = (event) => {
             try {
+                if (event.data instanceof ArrayBuffer) {
+                    decodeBinaryFrame(event.data);
+                    return;
+                }
                 const data = JSON.parse(event.data);
-
-                switch(data.type) {
-                    case "POSITION_UPDATE":
-                        if (data.characterId === gameState.character.id) {
-                            updateWebSocketPosition(data);
-                        }
-                        break;
-                    case "ANIMATION_UPDATE":
-                        handleAnimationUpdate(data);
-                        break;
-                    case "LAYER_UPDATE":
-                        handleLayerUpdate(data);
-                        break;
+                if (data.type === "BATCH_UPDATE") {
+                    updateServerClock(data.time);
+                    data.updates.forEach(update => handleServerMessage(update, data.time));
+                } else {
+                    handleServerMessage(data);
                 }
             } catch (error) {
                 console.error("Error processing WebSocket message:", error);
@@ -71,27 +103,232 @@ export function connectWebSocket() {
     }
 }
 
+/**
+ * Dekodiert einen binären Frame und reicht die Records als Nachrichten weiter
+ */
+function decodeBinaryFrame(buffer) {
+    const view = new DataView(buffer);
+    if (view.getUint8(0) !== FRAME_BATCH) {
+        console.warn("Unknown binary frame type:", view.getUint8(0));
+        return;
+    }
+    const time = view.getUint32(5, true);
+    const count = view.getUint16(9, true);
+    let offset = 11;
+    updateServerClock(time);
+
+    const readString = () => {
+        const length = view.getUint16(offset, true);
+        offset += 2;
+        const value = textDecoder.decode(new Uint8Array(buffer, offset, length));
+        offset += length;
+        return value;
+    };
+
+    for (let i = 0; i < count; i++) {
+        const recordType = view.getUint8(offset);
+        const shortId = view.getUint16(offset + 1, true);
+        offset += 3;
+
+        switch (recordType) {
+            case RECORD_CHARACTER_ID: {
+                const msb = view.getBigUint64(offset, true);
+                const lsb = view.getBigUint64(offset + 8, true);
+                offset += 16;
+                characterIds.set(shortId, formatUuid(msb, lsb));
+                break;
+            }
+            case RECORD_POSITION:
+                handleServerMessage({
+                    type: "POSITION_UPDATE",
+                    characterId: characterIds.get(shortId),
+                    position: {
+                        x: view.getInt32(offset, true) / POSITION_SCALE,
+                        y: view.getInt32(offset + 4, true) / POSITION_SCALE,
+                        z: view.getInt32(offset + 8, true) / POSITION_SCALE
+                    },
+                    velocity: {
+                        x: view.getInt16(offset + 12, true) / VELOCITY_SCALE,
+                        y: view.getInt16(offset + 14, true) / VELOCITY_SCALE,
+                        z: view.getInt16(offset + 16, true) / VELOCITY_SCALE
+                    }
+                });
+                offset += 18;
+                break;
+            case RECORD_ANIMATION: {
+                const animationId = readString();
+                const progress = view.getUint16(offset, true) / 0xFFFF;
+                offset += 2;
+                handleServerMessage({
+                    type: "ANIMATION_UPDATE",
+                    characterId: characterIds.get(shortId),
+                    animationId,
+                    progress
+                });
+                break;
+            }
+            case RECORD_LAYER:
+                handleServerMessage({
+                    type: "LAYER_UPDATE",
+                    characterId: characterIds.get(shortId),
+                    activeLayer: readString()
+                });
+                break;
+            default:
+                console.warn("Unknown binary record type:", recordType);
+                return;
+        }
+    }
+}
+
+function formatUuid(msb, lsb) {
+    const hex = msb.toString(16).padStart(16, "0") + lsb.toString(16).padStart(16, "0");
+    return hex.slice(0, 8) + "-" + hex.slice(8, 12) + "-" + hex.slice(12, 16) + "-"
+        + hex.slice(16, 20) + "-" + hex.slice(20);
+}
+
+/**
+ * Gleicht die geschätzte Serverzeit mit dem Zeitstempel eines Snapshots ab
+ */
+function updateServerClock(serverTime) {
+    const sample = serverTime - performance.now();
+    // Geglättet, damit Netzwerk-Jitter die Wiedergabe nicht ruckeln lässt
+    serverClockOffset = serverClockOffset === null
+        ? sample
+        : serverClockOffset + (sample - serverClockOffset) * 0.1;
+}
+
+/**
+ * Verarbeitet eine einzelne Server-Nachricht, auch aus einem gebündelten Frame
+ *
+ * @param time Serverzeit des Snapshots in ms, falls die Nachricht aus einem Frame stammt
+ */
+function handleServerMessage(data, time) {
+    switch(data.type) {
+        case "POSITION_UPDATE":
+            if (data.characterId === gameState.character.id) {
+                updateWebSocketPosition(data, time);
+            }
+            break;
+        case "ANIMATION_UPDATE":
+            handleAnimationUpdate(data);
+            break;
+        case "LAYER_UPDATE":
+            handleLayerUpdate(data);
+            break;
+        case "ERROR":
+            console.warn("WebSocket server error:", data.message);
+            break;
+    }
+}
+
 /**
  * Verarbeitet Updates zur Charakterposition vom Server
  */
-function updateWebSocketPosition(data) {
+function updateWebSocketPosition(data, time) {
     if (!data.position) {
         console.error("Invalid position update:", data);
         return;
     }
     
-    // Charakter-Position aktualisieren
-    const updatedState = {
-        x: data.position.x,
-        y: data.position.y,
-        z: data.position.z,
-        speed: gameState.character.speed, // Geschwindigkeit beibehalten
-        rotationX: gameState.character.rotationX,
-        rotationY: gameState.character.rotationY,
-        rotationZ: gameState.character.rotationZ
-    };
-    
-    updateCharacterState(updatedState);
+    if (time === undefined) {
+        // Charakter-Position aktualisieren
+        updateCharacterState({
+            x: data.position.x,
+            y: data.position.y,
+            z: data.position.z,
+            speed: gameState.character.speed, // Geschwindigkeit beibehalten
+            rotationX: gameState.character.rotationX,
+            rotationY: gameState.character.rotationY,
+            rotationZ: gameState.character.rotationZ
+        });
+        snapshots = [];
+    } else {
+        // Die Position setzt interpolatePosition() aus dem Puffer
+        const velocity = data.velocity || { x: 0, y: 0, z: 0 };
+        snapshots.push({ time, position: data.position, velocity });
+        if (snapshots.length > MAX_BUFFERED_SNAPSHOTS) {
+            snapshots.shift();
+        }
+    }
+    updateInterestArea();
+}
+
+/**
+ * Setzt den eigenen Charakter auf die interpolierte Serverposition, INTERPOLATION_DELAY_MS
+ * hinter der geschätzten Serverzeit; wird pro Frame aus der Spielschleife aufgerufen
+ */
+export function interpolatePosition() {
+    if (snapshots.length === 0 || serverClockOffset === null) {
+        return;
+    }
+    const renderTime = performance.now() + serverClockOffset - INTERPOLATION_DELAY_MS;
+
+    // Snapshots, auf die ein weiterer vor der Renderzeit folgt, werden nicht mehr gebraucht
+    while (snapshots.length > 1 && snapshots[1].time <= renderTime) {
+        snapshots.shift();
+    }
+
+    const from = snapshots[0];
+    const to = snapshots[1];
+    let x, y, z;
+    if (renderTime <= from.time) {
+        ({ x, y, z } = from.position);
+    } else if (to) {
+        const t = (renderTime - from.time) / (to.time - from.time);
+        x = from.position.x + (to.position.x - from.position.x) * t;
+        y = from.position.y + (to.position.y - from.position.y) * t;
+        z = from.position.z + (to.position.z - from.position.z) * t;
+    } else {
+        // Dead Reckoning: zwischen Snapshots mit der gesendeten Geschwindigkeit weiterrechnen
+        const dt = (renderTime - from.time) / 1000;
+        x = from.position.x + from.velocity.x * dt;
+        y = from.position.y + from.velocity.y * dt;
+        z = from.position.z + from.velocity.z * dt;
+        if (!from.velocity.x && !from.velocity.y && !from.velocity.z) {
+            // Endposition erreicht; lokale Bewegung nicht weiter überschreiben
+            snapshots = [];
+        }
+    }
+    gameState.character.x = x;
+    gameState.character.y = y;
+    gameState.character.z = z;
+}
+
+/**
+ * Abonniert den eigenen Charakter, damit seine Updates auch außerhalb des Bereichs ankommen
+ */
+export function subscribeOwnCharacter() {
+    const socket = gameState.webSocket;
+    const characterId = gameState.character.id;
+    if (!socket || socket.readyState !== WebSocket.OPEN) return;
+    if (!characterId || characterId.startsWith("fallback-") || characterId === subscribedCharacterId) return;
+
+    if (subscribedCharacterId) {
+        socket.send(JSON.stringify({ type: "UNSUBSCRIBE", characterId: subscribedCharacterId }));
+    }
+    subscribedCharacterId = characterId;
+    socket.send(JSON.stringify({ type: "SUBSCRIBE", characterId }));
+}
+
+/**
+ * Abonniert den Bereich um den eigenen Charakter und verschiebt ihn, sobald sich der
+ * Charakter um mehr als den halben Radius vom Mittelpunkt entfernt hat
+ */
+export function updateInterestArea() {
+    const socket = gameState.webSocket;
+    if (!socket || socket.readyState !== WebSocket.OPEN) return;
+
+    const x = gameState.character.x;
+    const z = gameState.character.z;
+    if (subscribedCenter) {
+        const dx = x - subscribedCenter.x;
+        const dz = z - subscribedCenter.z;
+        if (dx * dx + dz * dz < (INTEREST_RADIUS / 2) * (INTEREST_RADIUS / 2)) return;
+    }
+
+    subscribedCenter = { x, z };
+    socket.send(JSON.stringify({ type: "SUBSCRIBE_AREA", x, z, radius: INTEREST_RADIUS }));
 }
 
 /**
@@ -9,6 +9,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -71,6 +72,27 @@ class CharacterControllerTest {
         assertEquals(1.5f, response.getBody().getSpeed());
     }
 
+    @Test
+    void findNearbyCharacters_ShouldReturnCharactersInRadius() {
+        // Arrange
+        MotionState nearbyState = new MotionState(
+            testCharacterId,
+            new Position(2, 0, 1),
+            new Rotation(0, 0, 0),
+            0.0f
+        );
+        when(motionService.findCharactersNear(0.0f, 0.0f, 5.0f)).thenReturn(List.of(nearbyState));
+
+        // Act
+        ResponseEntity<List<CharacterResponse>> response = controller.findNearbyCharacters(0.0f, 0.0f, 5.0f);
+
+        // Assert
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().size());
+        assertEquals(testCharacterId, response.getBody().get(0).getCharacterId());
+        assertEquals(2.0f, response.getBody().get(0).getX());
+    }
+
     @Test
     void moveCharacter_ShouldUpdateCharacterState() {
         // Arrange
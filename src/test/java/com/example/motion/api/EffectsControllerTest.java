@@ -0,0 +1,47 @@
+package com.example.motion.api;
+
+import com.example.motion.api.dto.ParticleStatsResponse;
+import com.example.motion.visual.VisualEffectsController;
+import com.example.motion.visual.particle.ParticleSystem.ParticleStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.ResponseEntity;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EffectsControllerTest {
+
+    @Mock
+    private VisualEffectsController visualEffects;
+
+    private EffectsController controller;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        controller = new EffectsController(visualEffects);
+    }
+
+    @Test
+    void getParticleStats_ShouldReturnDropCounters() {
+        // Arrange
+        when(visualEffects.getParticleStats()).thenReturn(new ParticleStats(120, 500, 4, 7, 11, 3));
+
+        // Act
+        ResponseEntity<ParticleStatsResponse> response = controller.getParticleStats();
+
+        // Assert
+        assertEquals(200, response.getStatusCode().value());
+        ParticleStatsResponse body = response.getBody();
+        assertNotNull(body);
+        assertEquals(120, body.getActiveParticles());
+        assertEquals(500, body.getMaxParticles());
+        assertEquals(4, body.getActiveEmitters());
+        assertEquals(7, body.getCulledParticles());
+        assertEquals(11, body.getDroppedByBudget());
+        assertEquals(3, body.getDroppedByCapacity());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.motion.benchmark;
+
+import com.example.motion.sys.model.Position;
+import com.example.motion.sys.world.CollisionWorld;
+import com.example.motion.sys.world.WorldBox;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst Boden- und Sweep-Abfragen der {@link CollisionWorld} bei wachsender Hindernisanzahl.
+ * Bei gleicher Hindernisdichte sollte die Zeit pro Abfrage nur logarithmisch steigen.
+ *
+ * Ausführen mit: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=CollisionWorldBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionWorldBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    private int obstacles;
+
+    private CollisionWorld world;
+    private float[] xs;
+    private float[] zs;
+    private Position[] starts;
+    private Position[] targets;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        // Gleiche Dichte für alle Größen: etwa ein Hindernis pro 25 m²
+        float extent = (float) Math.sqrt(obstacles * 25.0);
+        List<WorldBox> boxes = new ArrayList<>(obstacles);
+        for (int i = 0; i < obstacles; i++) {
+            float x = random.nextFloat() * extent;
+            float z = random.nextFloat() * extent;
+            float size = 0.5f + random.nextFloat() * 2;
+            float height = random.nextFloat() * 3;
+            boxes.add(new WorldBox(x, 0, z, x + size, height, z + size));
+        }
+        world = new CollisionWorld(boxes, null);
+
+        xs = new float[QUERIES];
+        zs = new float[QUERIES];
+        starts = new Position[QUERIES];
+        targets = new Position[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            xs[i] = random.nextFloat() * extent;
+            zs[i] = random.nextFloat() * extent;
+            starts[i] = new Position(xs[i], 0, zs[i]);
+            // Typische Schrittweite eines Ticks
+            targets[i] = new Position(xs[i] + random.nextFloat() - 0.5f, 0, zs[i] + random.nextFloat() - 0.5f);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void groundHeight(Blackhole blackhole) {
+        for (int i = 0; i < QUERIES; i++) {
+            blackhole.consume(world.groundHeight(xs[i], zs[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void sweepCapsule(Blackhole blackhole) {
+        for (int i = 0; i < QUERIES; i++) {
+            blackhole.consume(world.sweepCapsule(starts[i], targets[i], 0.5f, 1.5f));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.motion.benchmark;
+
+import com.example.motion.sys.math.FastMath;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vergleicht {@link FastMath} mit {@link Math} für typische Oszillator-Argumente.
+ *
+ * Ausführen mit: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=FastMathBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FastMathBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    private float[] angles;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        angles = new float[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            angles[i] = (random.nextFloat() * 2 - 1) * FastMath.TWO_PI;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void mathSin(Blackhole blackhole) {
+        for (float angle : angles) {
+            blackhole.consume((float) Math.sin(angle));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void fastMathSin(Blackhole blackhole) {
+        for (float angle : angles) {
+            blackhole.consume(FastMath.sin(angle));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void mathSinCosDegrees(Blackhole blackhole) {
+        for (float angle : angles) {
+            double radians = Math.toRadians(angle * 57.29578f);
+            blackhole.consume((float) Math.sin(radians) + (float) Math.cos(radians));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void fastMathSinCosDegrees(Blackhole blackhole) {
+        for (float angle : angles) {
+            float degrees = angle * 57.29578f;
+            blackhole.consume(FastMath.sinDeg(degrees) + FastMath.cosDeg(degrees));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.motion.benchmark;
+
+import com.example.motion.sys.model.Position;
+import com.example.motion.sys.time.SimulationClock;
+import com.example.motion.sys.time.SimulationTime;
+import com.example.motion.visual.particle.ParticleConfig;
+import com.example.motion.visual.particle.ParticleSystem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst Update und Emission des {@link ParticleSystem} bei voll belegtem Partikelpool.
+ *
+ * Ausführen mit: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ParticleSystemBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParticleSystemBenchmark {
+
+    private static final int PARTICLES = 100_000;
+    private static final int EMITTERS = 100;
+
+    private ParticleSystem particleSystem;
+    private ParticleSystem sequentialSystem;
+    private SimulationTime step;
+
+    private ParticleSystem churnSystem;
+    private SimulationClock churnClock;
+    private UUID[] churnEmitters;
+    private ParticleConfig churnConfig;
+    private Position churnPosition;
+    private int nextEmitter;
+
+    @Setup
+    public void setUp() {
+        // Schrittweite ohne vergangene Zeit: die Partikel laufen während der Messung nicht ab
+        step = new SimulationClock().current();
+        particleSystem = new ParticleSystem(PARTICLES);
+        sequentialSystem = new ParticleSystem(PARTICLES, Integer.MAX_VALUE);
+        for (int i = 0; i < EMITTERS; i++) {
+            particleSystem.createGoalReachedEmitter(new Position(i, 0, i), PARTICLES / EMITTERS);
+            sequentialSystem.createGoalReachedEmitter(new Position(i, 0, i), PARTICLES / EMITTERS);
+        }
+
+        churnSystem = new ParticleSystem(PARTICLES);
+        churnClock = new SimulationClock();
+        churnEmitters = new UUID[EMITTERS];
+        churnPosition = new Position(0, 0, 0);
+        for (int i = 0; i < EMITTERS; i++) {
+            churnEmitters[i] = churnSystem.createDustEmitter(new UUID(0, i), churnPosition, 2.0f, "RunningLayer");
+        }
+        churnConfig = ParticleConfig.createDustConfig();
+        churnConfig.setEmissionRate(20);
+        churnConfig.setParticleLifetime(1000);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARTICLES)
+    public void update() {
+        particleSystem.update(step);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARTICLES)
+    public void updateSequential() {
+        sequentialSystem.update(step);
+    }
+
+    /**
+     * Emission an wechselnden Emittern mit fortlaufender Uhr, sodass laufend Partikel
+     * entstehen und ablaufen.
+     */
+    @Benchmark
+    public int emitAndUpdate() {
+        UUID emitterId = churnEmitters[nextEmitter];
+        nextEmitter = (nextEmitter + 1) % EMITTERS;
+        churnSystem.updateEmitter(emitterId, churnPosition, churnConfig);
+        churnSystem.update(churnClock.advance());
+        return churnSystem.getActiveParticleCount();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.motion.benchmark;
+
+import com.example.motion.sys.physics.PhysicsIntegrator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst, wie viele Charaktere der {@link PhysicsIntegrator} pro Millisekunde integriert.
+ *
+ * Ausführen mit: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=PhysicsIntegratorBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PhysicsIntegratorBenchmark {
+
+    private static final int CHARACTERS = 100_000;
+    private static final float DELTA_TIME = 1.0f / 60;
+
+    private PhysicsIntegrator integrator;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        integrator = new PhysicsIntegrator(CHARACTERS);
+        for (int i = 0; i < CHARACTERS; i++) {
+            int index = integrator.indexOf(new UUID(0, i));
+            integrator.setPosition(index, random.nextFloat() * 1000, random.nextFloat() * 10, random.nextFloat() * 1000);
+            integrator.setVelocity(index, random.nextFloat() - 0.5f, 0, random.nextFloat() - 0.5f);
+            integrator.setGravityScale(index, random.nextFloat());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHARACTERS)
+    public void integrate() {
+        integrator.integrate(DELTA_TIME);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHARACTERS)
+    public void integrateAndClampToFlatGround() {
+        integrator.integrate(DELTA_TIME);
+        integrator.clampToGround((x, z, maxY) -> 0.0f, 0.3f);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.motion.benchmark;
+
+import com.example.motion.sys.spatial.SpatialHashGrid;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst Aufbau und Paarsuche des {@link SpatialHashGrid} für viele Charaktere.
+ *
+ * Ausführen mit: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=SpatialHashGridBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpatialHashGridBenchmark {
+
+    private static final float RADIUS = 0.5f;
+
+    @Param({"10000", "100000"})
+    private int characters;
+
+    private UUID[] ids;
+    private float[] xs;
+    private float[] zs;
+    private SpatialHashGrid grid;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        // Dichte von etwa einem Charakter pro 4 m²
+        float extent = (float) Math.sqrt(characters * 4.0);
+        ids = new UUID[characters];
+        xs = new float[characters];
+        zs = new float[characters];
+        for (int i = 0; i < characters; i++) {
+            ids[i] = new UUID(0, i);
+            xs[i] = random.nextFloat() * extent;
+            zs[i] = random.nextFloat() * extent;
+        }
+        grid = new SpatialHashGrid(RADIUS * 2, characters);
+    }
+
+    @Benchmark
+    public void rebuildAndFindOverlaps(Blackhole blackhole) {
+        grid.clear();
+        for (int i = 0; i < characters; i++) {
+            grid.add(ids[i], xs[i], zs[i]);
+        }
+        grid.build();
+
+        float minDistanceSq = RADIUS * 2 * RADIUS * 2;
+        int[] overlaps = new int[1];
+        grid.forEachCandidatePair((a, b) -> {
+            float dx = grid.getX(a) - grid.getX(b);
+            float dz = grid.getZ(a) - grid.getZ(b);
+            if (dx * dx + dz * dz < minDistanceSq) {
+                overlaps[0]++;
+            }
+        });
+        blackhole.consume(overlaps[0]);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.motion.sys.math;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FastMathTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    void sinAndCos_ShouldStayWithinMaxErrorAcrossSeveralTurns() {
+        // Arrange: gleichmäßiges Raster über [-4π, 4π]
+        float range = 4 * FastMath.TWO_PI;
+
+        for (int i = 0; i <= SAMPLES; i++) {
+            float radians = -range + 2 * range * i / SAMPLES;
+
+            // Act / Assert
+            assertRadiansWithinBound(radians);
+        }
+    }
+
+    @Test
+    void sinAndCos_ShouldStayWithinMaxErrorForLargeArguments() {
+        // Arrange: Zufallswinkel bis weit jenseits einer Umdrehung, jeweils mit beiden Vorzeichen
+        Random random = new Random(42);
+        float[] magnitudes = {1e2f, 1e4f, 1e6f, 1e8f, 1e20f, Float.MAX_VALUE};
+
+        for (float magnitude : magnitudes) {
+            for (int i = 0; i < SAMPLES / magnitudes.length; i++) {
+                float radians = (random.nextFloat() * 2 - 1) * magnitude;
+
+                // Act / Assert
+                assertRadiansWithinBound(radians);
+            }
+        }
+    }
+
+    @Test
+    void sinDegAndCosDeg_ShouldStayWithinMaxErrorAcrossSeveralTurns() {
+        // Arrange: gleichmäßiges Raster über [-720°, 720°]
+        for (int i = 0; i <= SAMPLES; i++) {
+            float degrees = -720.0f + 1440.0f * i / SAMPLES;
+
+            // Act / Assert
+            assertDegreesWithinBound(degrees);
+        }
+    }
+
+    @Test
+    void sinDegAndCosDeg_ShouldStayWithinMaxErrorForLargeArguments() {
+        // Arrange
+        Random random = new Random(7);
+        float[] magnitudes = {1e3f, 1e5f, 1e7f, 1e9f, 1e30f, Float.MAX_VALUE};
+
+        for (float magnitude : magnitudes) {
+            for (int i = 0; i < SAMPLES / magnitudes.length; i++) {
+                float degrees = (random.nextFloat() * 2 - 1) * magnitude;
+
+                // Act / Assert
+                assertDegreesWithinBound(degrees);
+            }
+        }
+    }
+
+    @Test
+    void sinAndCos_ShouldBeExactAtQuarterTurnsInDegrees() {
+        // Act / Assert: Tabellenstützstellen, auch nach vielen Umdrehungen
+        assertEquals(0.0f, FastMath.sinDeg(0.0f), FastMath.MAX_ERROR);
+        assertEquals(1.0f, FastMath.sinDeg(90.0f), FastMath.MAX_ERROR);
+        assertEquals(-1.0f, FastMath.sinDeg(-90.0f), FastMath.MAX_ERROR);
+        assertEquals(-1.0f, FastMath.cosDeg(180.0f + 360.0f * 1000), FastMath.MAX_ERROR);
+        assertEquals(1.0f, FastMath.sinDeg(90.0f - 360.0f * 1000), FastMath.MAX_ERROR);
+    }
+
+    private static void assertRadiansWithinBound(float radians) {
+        assertWithinBound(Math.sin(radians), FastMath.sin(radians), "sin", radians);
+        assertWithinBound(Math.cos(radians), FastMath.cos(radians), "cos", radians);
+    }
+
+    private static void assertDegreesWithinBound(float degrees) {
+        // Referenz exakt auf eine Umdrehung reduzieren, sonst verliert toRadians die Phase
+        double radians = Math.toRadians(degrees % 360.0);
+        assertWithinBound(Math.sin(radians), FastMath.sinDeg(degrees), "sinDeg", degrees);
+        assertWithinBound(Math.cos(radians), FastMath.cosDeg(degrees), "cosDeg", degrees);
+    }
+
+    private static void assertWithinBound(double expected, float actual, String function, float angle) {
+        double error = Math.abs(actual - expected);
+        if (!(error <= FastMath.MAX_ERROR)) {
+            fail(function + "(" + angle + ") weicht um " + error + " ab");
+        }
+    }
+}
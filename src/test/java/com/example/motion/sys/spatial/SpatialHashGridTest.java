@@ -0,0 +1,189 @@
+package com.example.motion.sys.spatial;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialHashGridTest {
+
+    @Test
+    @Timeout(value = 5, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    void forEachInBox_ShouldTerminateAtSaturatedCellCoordinates() {
+        // Arrange
+        SpatialHashGrid grid = new SpatialHashGrid(2.0f);
+        grid.add(UUID.randomUUID(), 0.0f, 0.0f);
+        grid.build();
+
+        // Act
+        List<Integer> found = new ArrayList<>();
+        grid.forEachInRadius(1e30f, 0.0f, 1.0f, found::add);
+        grid.forEachInBox(-1e30f, -1e30f, -1e30f, -1e30f, found::add);
+
+        // Assert
+        assertTrue(found.isEmpty());
+    }
+
+    @Test
+    @Timeout(value = 5, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    void forEachInRadius_ShouldTerminateForHugeRadius() {
+        // Arrange
+        SpatialHashGrid grid = new SpatialHashGrid(2.0f);
+        int near = grid.add(UUID.randomUUID(), 1.0f, -1.0f);
+        int far = grid.add(UUID.randomUUID(), -900_000.0f, 900_000.0f);
+        grid.build();
+
+        // Act: gesättigte Zellkoordinaten, die Zellanzahl überläuft in int
+        List<Integer> found = new ArrayList<>();
+        grid.forEachInRadius(0.0f, 0.0f, 1e30f, found::add);
+
+        // Assert
+        assertEquals(Set.of(near, far), new HashSet<>(found));
+        assertEquals(2, found.size());
+    }
+
+    @Test
+    void forEachInRadius_ShouldFindEntriesInNegativeCells() {
+        // Arrange
+        SpatialHashGrid grid = new SpatialHashGrid(2.0f);
+        int nearOrigin = grid.add(UUID.randomUUID(), -0.5f, -0.5f);
+        int negative = grid.add(UUID.randomUUID(), -2.1f, -3.9f);
+        int positive = grid.add(UUID.randomUUID(), 1.0f, 1.0f);
+        grid.build();
+
+        // Act
+        List<Integer> aroundNegative = new ArrayList<>();
+        grid.forEachInRadius(-2.0f, -3.5f, 0.5f, aroundNegative::add);
+        List<Integer> aroundOrigin = new ArrayList<>();
+        grid.forEachInRadius(0.0f, 0.0f, 1.5f, aroundOrigin::add);
+
+        // Assert
+        assertEquals(List.of(negative), aroundNegative);
+        assertEquals(Set.of(nearOrigin, positive), new HashSet<>(aroundOrigin));
+        assertEquals(2, aroundOrigin.size());
+    }
+
+    @Test
+    void forEachInBox_ShouldReportEachEntryOnceDespiteSharedBuckets() {
+        // Arrange: viele Zellen um den Ursprung, wenige Buckets, daher teilen sich Zellen Buckets.
+        // Der Ausreißer macht die Belegung dünn, sodass das Grid hasht
+        SpatialHashGrid grid = new SpatialHashGrid(1.0f);
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            grid.add(UUID.randomUUID(), random.nextFloat() * 20 - 10, random.nextFloat() * 20 - 10);
+        }
+        grid.add(UUID.randomUUID(), 5000.0f, 5000.0f);
+        grid.build();
+
+        assertBoxQueriesMatchBruteForce(grid, random);
+    }
+
+    @Test
+    void forEachInBox_ShouldMatchBruteForceInDenseGrid() {
+        // Arrange: kompakte Belegung, ein Bucket pro Zelle
+        SpatialHashGrid grid = new SpatialHashGrid(1.0f);
+        Random random = new Random(43);
+        for (int i = 0; i < 200; i++) {
+            grid.add(UUID.randomUUID(), random.nextFloat() * 20 - 10, random.nextFloat() * 20 - 10);
+        }
+        grid.build();
+
+        assertBoxQueriesMatchBruteForce(grid, random);
+    }
+
+    private static void assertBoxQueriesMatchBruteForce(SpatialHashGrid grid, Random random) {
+        for (int query = 0; query < 100; query++) {
+            float minX = random.nextFloat() * 20 - 12;
+            float minZ = random.nextFloat() * 20 - 12;
+            float maxX = minX + random.nextFloat() * 4;
+            float maxZ = minZ + random.nextFloat() * 4;
+
+            // Act
+            List<Integer> found = new ArrayList<>();
+            grid.forEachInBox(minX, minZ, maxX, maxZ, found::add);
+
+            // Assert
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < grid.size(); i++) {
+                float x = grid.getX(i);
+                float z = grid.getZ(i);
+                if (x >= minX && x <= maxX && z >= minZ && z <= maxZ) {
+                    expected.add(i);
+                }
+            }
+            found.sort(null);
+            assertEquals(expected, found);
+        }
+    }
+
+    @Test
+    void forEachCandidatePair_ShouldPairOnlyNeighbouringCellsAcrossZero() {
+        // Arrange: Zellgröße 2, Zellen -2, -1, 0
+        SpatialHashGrid grid = new SpatialHashGrid(2.0f);
+        int left = grid.add(UUID.randomUUID(), -0.1f, 0.0f);
+        int right = grid.add(UUID.randomUUID(), 0.1f, 0.0f);
+        int farLeft = grid.add(UUID.randomUUID(), -3.9f, 0.0f);
+        grid.build();
+
+        // Act
+        List<String> pairs = new ArrayList<>();
+        grid.forEachCandidatePair((a, b) -> pairs.add(a + "-" + b));
+
+        // Assert: -3.9 (Zelle -2) und 0.1 (Zelle 0) sind keine Nachbarn
+        assertEquals(Set.of(left + "-" + right, left + "-" + farLeft), new HashSet<>(pairs));
+        assertEquals(2, pairs.size());
+    }
+
+    @Test
+    void forEachCandidatePair_ShouldMatchBruteForceWithSharedBuckets() {
+        // Arrange: der Ausreißer macht die Belegung dünn, sodass das Grid hasht
+        SpatialHashGrid grid = new SpatialHashGrid(1.0f);
+        Random random = new Random(7);
+        for (int i = 0; i < 150; i++) {
+            grid.add(UUID.randomUUID(), random.nextFloat() * 16 - 8, random.nextFloat() * 16 - 8);
+        }
+        grid.add(UUID.randomUUID(), -5000.0f, 5000.0f);
+        grid.build();
+
+        assertCandidatePairsMatchBruteForce(grid);
+    }
+
+    @Test
+    void forEachCandidatePair_ShouldMatchBruteForceInDenseGrid() {
+        // Arrange: kompakte Belegung, ein Bucket pro Zelle
+        SpatialHashGrid grid = new SpatialHashGrid(1.0f);
+        Random random = new Random(8);
+        for (int i = 0; i < 150; i++) {
+            grid.add(UUID.randomUUID(), random.nextFloat() * 16 - 8, random.nextFloat() * 16 - 8);
+        }
+        grid.build();
+
+        assertCandidatePairsMatchBruteForce(grid);
+    }
+
+    private static void assertCandidatePairsMatchBruteForce(SpatialHashGrid grid) {
+        // Act
+        Set<Long> pairs = new HashSet<>();
+        grid.forEachCandidatePair((a, b) -> assertTrue(pairs.add((long) a << 32 | b)));
+
+        // Assert
+        Set<Long> expected = new HashSet<>();
+        for (int a = 0; a < grid.size(); a++) {
+            for (int b = a + 1; b < grid.size(); b++) {
+                long dx = (long) Math.floor(grid.getX(a)) - (long) Math.floor(grid.getX(b));
+                long dz = (long) Math.floor(grid.getZ(a)) - (long) Math.floor(grid.getZ(b));
+                if (Math.abs(dx) <= 1 && Math.abs(dz) <= 1) {
+                    expected.add((long) a << 32 | b);
+                }
+            }
+        }
+        assertEquals(expected, pairs);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.motion.visual.animation;
+
+import com.example.motion.sys.model.MotionState;
+import com.example.motion.sys.model.Position;
+import com.example.motion.sys.model.Rotation;
+import com.example.motion.sys.time.SimulationClock;
+import com.example.motion.visual.animation.EasingFunctions.EasingType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransitionAnimatorTest {
+
+    private static final UUID CHARACTER_ID = UUID.randomUUID();
+
+    @Test
+    void update_ShouldFollowSimulationClock() {
+        // Arrange: 100-ms-Ticks, linearer Übergang über 400 ms von x=0 nach x=4
+        TransitionAnimator animator = new TransitionAnimator();
+        SimulationClock clock = new SimulationClock(100_000_000L);
+        List<Float> xs = new ArrayList<>();
+        boolean[] completed = {false};
+        animator.animateTransition(state(0), state(4), 400, EasingType.LINEAR, clock.current(),
+            update -> xs.add(update.getPosition().getX()), () -> completed[0] = true);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            animator.update(clock.advance());
+        }
+
+        // Assert
+        assertEquals(List.of(1.0f, 2.0f, 3.0f, 4.0f), xs);
+        assertTrue(completed[0]);
+    }
+
+    @Test
+    void animateTransition_ShouldReplaceRunningTransitionOfCharacter() {
+        // Arrange
+        TransitionAnimator animator = new TransitionAnimator();
+        SimulationClock clock = new SimulationClock(100_000_000L);
+        List<Float> xs = new ArrayList<>();
+        animator.animateTransition(state(0), state(4), 400, EasingType.LINEAR, clock.current(),
+            update -> xs.add(-1.0f), null);
+
+        // Act
+        animator.animateTransition(state(0), state(2), 200, EasingType.LINEAR, clock.current(),
+            update -> xs.add(update.getPosition().getX()), null);
+        animator.update(clock.advance());
+        animator.update(clock.advance());
+        animator.update(clock.advance());
+
+        // Assert
+        assertEquals(List.of(1.0f, 2.0f), xs);
+    }
+
+    private static MotionState state(float x) {
+        return new MotionState(CHARACTER_ID, new Position(x, 0, 0), new Rotation(0, 0, 0), 1.0f);
+    }
+}
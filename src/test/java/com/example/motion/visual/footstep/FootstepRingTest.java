@@ -0,0 +1,122 @@
+package com.example.motion.visual.footstep;
+
+import com.example.motion.sys.model.MotionState;
+import com.example.motion.sys.model.Position;
+import com.example.motion.sys.model.Rotation;
+import com.example.motion.sys.time.SimulationClock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FootstepRingTest {
+
+    @Test
+    void add_ShouldOverwriteOldestWhenFull() {
+        // Arrange
+        FootstepRing ring = new FootstepRing(3);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            add(ring, i, FootstepStyle.DEFAULT, i * 100L);
+        }
+
+        // Assert: älteste zuerst, physisch über das Array-Ende umgebrochen
+        assertEquals(3, ring.size());
+        assertEquals(2, ring.ids[ring.index(0)]);
+        assertEquals(3, ring.ids[ring.index(1)]);
+        assertEquals(4, ring.ids[ring.index(2)]);
+        assertEquals(2, ring.index(0));
+        assertEquals(0, ring.index(1));
+        assertEquals(4.0f, ring.x[ring.index(2)]);
+    }
+
+    @Test
+    void expire_ShouldStopAtLiveHeadAndLeaveExpiredEntryBehindIt() {
+        // Arrange: Lauf-Fußspuren leben kürzer als die ältere Geh-Fußspur davor
+        FootstepRing ring = new FootstepRing(4);
+        add(ring, 0, FootstepStyle.DEFAULT, 0);
+        add(ring, 1, FootstepStyle.RUNNING, 100);
+
+        // Act
+        ring.expire(9000);
+
+        // Assert
+        assertEquals(2, ring.size());
+        assertFalse(ring.isExpired(ring.index(0), 9000));
+        assertTrue(ring.isExpired(ring.index(1), 9000));
+
+        // Läuft auch der Kopf ab, werden beide entfernt
+        ring.expire(10001);
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    void expire_ShouldAdvanceHeadAcrossWrap() {
+        // Arrange
+        FootstepRing ring = new FootstepRing(3);
+        for (int i = 0; i < 4; i++) {
+            add(ring, i, FootstepStyle.DEFAULT, i * 1000L);
+        }
+
+        // Act: id 1 (1000 ms) und id 2 (2000 ms) sind abgelaufen, id 3 (3000 ms) nicht
+        ring.expire(12500);
+
+        // Assert
+        assertEquals(1, ring.size());
+        assertEquals(3, ring.ids[ring.index(0)]);
+        assertEquals(0, ring.index(0));
+
+        add(ring, 4, FootstepStyle.DEFAULT, 12600);
+        assertEquals(2, ring.size());
+        assertEquals(4, ring.ids[ring.index(1)]);
+    }
+
+    @Test
+    void add_ShouldEncodeFootAndStyleInFlags() {
+        // Arrange
+        FootstepRing ring = new FootstepRing(2);
+
+        // Act
+        ring.add(0, 0, 0, 90.0f, true, FootstepStyle.ADVANCED, "AdvancedWalkingLayer", 0);
+        ring.add(0, 0, 0, 90.0f, false, FootstepStyle.RUNNING, "RunningLayer", 0);
+
+        // Assert
+        assertTrue(ring.isLeftFoot(ring.index(0)));
+        assertEquals(FootstepStyle.ADVANCED, ring.style(ring.index(0)));
+        assertFalse(ring.isLeftFoot(ring.index(1)));
+        assertEquals(FootstepStyle.RUNNING, ring.style(ring.index(1)));
+    }
+
+    @Test
+    void forEachFootstep_ShouldSkipExpiredFootstepBehindLiveHead() {
+        // Arrange: Schritte alle 100 ms, Geh-Fußspur zuerst, dann eine Lauf-Fußspur
+        FootstepVisualizer visualizer = new FootstepVisualizer();
+        UUID characterId = UUID.randomUUID();
+        SimulationClock clock = new SimulationClock(100_000_000L);
+        Rotation rotation = new Rotation(0, 0, 0);
+        visualizer.updateFootsteps(new MotionState(characterId, new Position(0, 0, 0), rotation, 1.0f),
+            "BasicWalkingLayer", clock.advance());
+        visualizer.updateFootsteps(new MotionState(characterId, new Position(3, 0, 0), rotation, 1.0f),
+            "BasicWalkingLayer", clock.advance());
+        visualizer.updateFootsteps(new MotionState(characterId, new Position(7, 0, 0), rotation, 1.0f),
+            "RunningLayer", clock.advance());
+        assertEquals(2, visualizer.getFootsteps(characterId).size());
+
+        // Act
+        List<Float> visible = new ArrayList<>();
+        visualizer.forEachFootstep(characterId, 8500,
+            (x, z, yaw, width, length, opacity, leftFoot) -> visible.add(x));
+
+        // Assert
+        assertEquals(1, visible.size());
+        assertEquals(3.0f, visible.get(0), 0.5f);
+    }
+
+    private static void add(FootstepRing ring, int x, FootstepStyle style, long now) {
+        ring.add(x, 0, 0, 0, false, style, "BasicWalkingLayer", now);
+    }
+}
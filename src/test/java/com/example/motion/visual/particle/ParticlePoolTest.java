@@ -0,0 +1,149 @@
+package com.example.motion.visual.particle;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticlePoolTest {
+
+    private static final int LOW = 0;
+    private static final int NORMAL = 1;
+    private static final int HIGH = 2;
+
+    private ParticlePool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ParticlePool(8);
+        pool.registerEmitter(LOW, EmitterPriority.LOW.ordinal(), 8);
+        pool.registerEmitter(NORMAL, EmitterPriority.NORMAL.ordinal(), 8);
+        pool.registerEmitter(HIGH, EmitterPriority.HIGH.ordinal(), 8);
+    }
+
+    @Test
+    void cull_ShouldRemoveLowestPriorityFirst() {
+        // Arrange: Priorität geht vor Restlebensdauer
+        int high = spawn(HIGH, 0, 10);
+        spawn(NORMAL, 0, 50);
+        spawn(LOW, 0, 5000);
+
+        // Act
+        int culled = pool.cull(2, EmitterPriority.HIGH.ordinal(), 0);
+
+        // Assert
+        assertEquals(2, culled);
+        assertEquals(Set.of(high), liveIds());
+    }
+
+    @Test
+    void cull_ShouldPreferShortestRemainingLifetimeWithinPriority() {
+        // Arrange
+        // Restlebensdauer bei now=950: halfway 550, fading 50, fresh 950
+        int halfway = spawn(LOW, 500, 1000);
+        int fading = spawn(LOW, 0, 1000);
+        int fresh = spawn(LOW, 900, 1000);
+
+        // Act
+        int culled = pool.cull(1, EmitterPriority.LOW.ordinal(), 950);
+
+        // Assert
+        assertEquals(1, culled);
+        assertEquals(Set.of(halfway, fresh), liveIds());
+    }
+
+    @Test
+    void cull_ShouldNotRemoveParticlesOfHigherPriority() {
+        // Arrange
+        int high = spawn(HIGH, 0, 10);
+        int normal = spawn(NORMAL, 0, 10);
+
+        // Act
+        int culled = pool.cull(2, EmitterPriority.LOW.ordinal(), 0);
+
+        // Assert
+        assertEquals(0, culled);
+        assertEquals(Set.of(high, normal), liveIds());
+    }
+
+    @Test
+    void cull_ShouldKeepAttributesOfMovedParticlesWithSortedVictims() {
+        // Arrange: Opfer an den Indizes 1, 6 und 7, also auch das letzte und vorletzte Partikel
+        int[] ids = new int[8];
+        for (int i = 0; i < 8; i++) {
+            boolean victim = i == 1 || i == 6 || i == 7;
+            ids[i] = spawn(LOW, 0, victim ? 10 : 1000);
+        }
+
+        // Act
+        int culled = pool.cull(3, EmitterPriority.LOW.ordinal(), 0);
+
+        // Assert
+        assertEquals(3, culled);
+        assertEquals(5, pool.size());
+        assertEquals(Set.of(ids[0], ids[2], ids[3], ids[4], ids[5]), liveIds());
+        for (int i = 0; i < pool.size(); i++) {
+            // Jedes Partikel trägt seine Id auch in x; Swap-Remove muss alle Attribute mitnehmen
+            assertEquals(pool.ids[i], (int) pool.x[i]);
+            assertEquals(1000, pool.lifetime[i]);
+        }
+        assertEquals(3, pool.remainingBudget(LOW));
+    }
+
+    @Test
+    void update_ShouldRemoveExpiredParticleMovedIntoRemovedSlot() {
+        // Arrange
+        spawn(LOW, 0, 100);
+        int live = spawn(LOW, 0, 1000);
+        spawn(LOW, 0, 100);
+
+        // Act
+        pool.update(0.016f, 500);
+
+        // Assert
+        assertEquals(Set.of(live), liveIds());
+        assertEquals(7, pool.remainingBudget(LOW));
+    }
+
+    @Test
+    void copyFrom_ShouldCopyLiveParticlesAndIdSequence() {
+        // Arrange
+        int first = spawn(LOW, 0, 1000);
+        int second = spawn(NORMAL, 0, 1000);
+        ParticlePool copy = new ParticlePool(8);
+
+        // Act
+        copy.copyFrom(pool);
+
+        // Assert
+        assertEquals(2, copy.size());
+        assertEquals(first, copy.ids[0]);
+        assertEquals(second, copy.ids[1]);
+        assertEquals(second, (int) copy.x[1]);
+        copy.registerEmitter(LOW, EmitterPriority.LOW.ordinal(), 8);
+        assertEquals(second + 1, copy.ids[copy.allocate(LOW)]);
+    }
+
+    /**
+     * Erzeugt ein Partikel, dessen x-Koordinate seiner Id entspricht.
+     */
+    private int spawn(int emitter, long creationTime, long lifetime) {
+        int index = pool.allocate(emitter);
+        assertTrue(index >= 0);
+        pool.x[index] = pool.ids[index];
+        pool.creationTime[index] = creationTime;
+        pool.lifetime[index] = lifetime;
+        return pool.ids[index];
+    }
+
+    private Set<Integer> liveIds() {
+        Set<Integer> ids = new HashSet<>();
+        for (int i = 0; i < pool.size(); i++) {
+            ids.add(pool.ids[i]);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.motion.visual.particle;
+
+import com.example.motion.sys.model.Position;
+import com.example.motion.sys.time.SimulationClock;
+import com.example.motion.sys.time.SimulationTime;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticleSystemTest {
+
+    // 100-ms-Ticks: eine Rate von N Partikeln pro Sekunde ergibt N / 10 je Update
+    private static final long STEP_NANOS = 100_000_000L;
+    private static final Position ORIGIN = new Position(0, 0, 0);
+    // Lebensdauer der Burst-Partikel aus der EmitterRegistry
+    private static final long GOAL_REACHED_LIFETIME = 2000;
+
+    @Test
+    void update_ShouldApplyCommandsQueuedFromOtherThreads() throws InterruptedException {
+        // Arrange
+        ParticleSystem system = new ParticleSystem(500, Integer.MAX_VALUE, 1L);
+        SimulationClock clock = new SimulationClock(STEP_NANOS);
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Position position = new Position(i, 0, 0);
+            producers.add(new Thread(() -> system.createGoalReachedEmitter(position, 10)));
+        }
+        producers.forEach(Thread::start);
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertEquals(0, system.getActiveParticleCount());
+
+        // Act
+        system.update(clock.advance());
+
+        // Assert
+        assertEquals(40, system.getActiveParticleCount());
+        assertEquals(40, system.getAllParticles().size());
+        assertEquals(4, system.getStats().activeEmitters());
+    }
+
+    @Test
+    void update_ShouldEmitRateTimesDeltaRegardlessOfEmitterUpdates() {
+        // Arrange: 20 Partikel pro Sekunde
+        ParticleSystem once = new ParticleSystem(500, Integer.MAX_VALUE, 1L);
+        ParticleSystem often = new ParticleSystem(500, Integer.MAX_VALUE, 1L);
+        UUID onceEmitter = once.createDustEmitter(UUID.randomUUID(), ORIGIN, 1.0f, "BasicWalkingLayer");
+        UUID oftenEmitter = often.createDustEmitter(UUID.randomUUID(), ORIGIN, 1.0f, "BasicWalkingLayer");
+        ParticleConfig config = longLivedConfig(20);
+        SimulationClock clock = new SimulationClock(STEP_NANOS);
+
+        // Act: eine Sekunde, einmal bzw. zehnmal je Update verschoben
+        for (int tick = 0; tick < 10; tick++) {
+            once.updateEmitter(onceEmitter, ORIGIN, config);
+            for (int i = 0; i < 10; i++) {
+                often.updateEmitter(oftenEmitter, new Position(i, 0, 0), config);
+            }
+            SimulationTime time = clock.advance();
+            once.update(time);
+            often.update(time);
+        }
+
+        // Assert
+        assertEquals(20, once.getActiveParticleCount());
+        assertEquals(20, often.getActiveParticleCount());
+    }
+
+    @Test
+    void update_ShouldProduceIdenticalParticlesForSameSeed() {
+        // Arrange
+        ParticleSystem first = new ParticleSystem(500, Integer.MAX_VALUE, 42L);
+        ParticleSystem second = new ParticleSystem(500, Integer.MAX_VALUE, 42L);
+        SimulationClock clock = new SimulationClock(STEP_NANOS);
+        for (ParticleSystem system : List.of(first, second)) {
+            system.createGoalReachedEmitter(new Position(1, 2, 3), 30);
+            UUID dust = system.createDustEmitter(UUID.randomUUID(), ORIGIN, 1.0f, "RunningLayer");
+            system.updateEmitter(dust, new Position(-4, 0, 5), longLivedConfig(30));
+        }
+
+        // Act
+        for (int tick = 0; tick < 5; tick++) {
+            SimulationTime time = clock.advance();
+            first.update(time);
+            second.update(time);
+        }
+
+        // Assert
+        List<Particle> expected = first.getAllParticles();
+        List<Particle> actual = second.getAllParticles();
+        assertEquals(45, expected.size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void update_ShouldNotEmitAtDetailZero() {
+        // Arrange
+        ParticleSystem hidden = new ParticleSystem(500, Integer.MAX_VALUE, 1L);
+        ParticleSystem visible = new ParticleSystem(500, Integer.MAX_VALUE, 1L);
+        UUID hiddenEmitter = hidden.createDustEmitter(UUID.randomUUID(), ORIGIN, 2.0f, "RunningLayer");
+        UUID visibleEmitter = visible.createDustEmitter(UUID.randomUUID(), ORIGIN, 2.0f, "RunningLayer");
+        SimulationClock clock = new SimulationClock(STEP_NANOS);
+
+        // Act
+        for (int tick = 0; tick < 10; tick++) {
+            hidden.updateDustEmitter(hiddenEmitter, ORIGIN, 2.0f, "RunningLayer", 0.0f);
+            visible.updateDustEmitter(visibleEmitter, ORIGIN, 2.0f, "RunningLayer", 1.0f);
+            SimulationTime time = clock.advance();
+            hidden.update(time);
+            visible.update(time);
+        }
+
+        // Assert
+        assertEquals(0, hidden.getActiveParticleCount());
+        assertTrue(visible.getActiveParticleCount() > 0);
+    }
+
+    @Test
+    void update_ShouldThrottleContinuousEmissionAboveHalfLoad() {
+        // Arrange: Burst füllt den Pool zu einem Viertel bzw. drei Vierteln, Staub mit 10/s
+        ParticleSystem relaxed = new ParticleSystem(200, Integer.MAX_VALUE, 1L);
+        ParticleSystem loaded = new ParticleSystem(200, Integer.MAX_VALUE, 1L);
+        relaxed.createGoalReachedEmitter(ORIGIN, 50);
+        loaded.createGoalReachedEmitter(ORIGIN, 150);
+        ParticleConfig config = longLivedConfig(10);
+        for (ParticleSystem system : List.of(relaxed, loaded)) {
+            UUID dust = system.createDustEmitter(UUID.randomUUID(), ORIGIN, 1.0f, "BasicWalkingLayer");
+            system.updateEmitter(dust, ORIGIN, config);
+        }
+        SimulationClock clock = new SimulationClock(STEP_NANOS);
+
+        // Act: eine halbe Sekunde
+        for (int tick = 0; tick < 5; tick++) {
+            SimulationTime time = clock.advance();
+            relaxed.update(time);
+            loaded.update(time);
+        }
+
+        // Assert: unter halber Last volle Rate, bei drei Vierteln etwa 0.625 davon mit
+        // entsprechend verkürzter Lebensdauer
+        assertEquals(5, relaxed.getActiveParticleCount() - 50);
+        int throttled = loaded.getActiveParticleCount() - 150;
+        assertTrue(throttled >= 2 && throttled <= 4, "gedrosselt: " + throttled);
+        long dustLifetimes = loaded.getAllParticles().stream()
+            .filter(particle -> particle.getLifetime() > GOAL_REACHED_LIFETIME)
+            .filter(particle -> particle.getLifetime() < config.getParticleLifetime())
+            .count();
+        assertEquals(throttled, dustLifetimes);
+    }
+
+    @Test
+    void update_ShouldMatchSequentialResultOnForkJoinPath() {
+        // Arrange: mehrere Fork-Join-Abschnitte
+        ParticleSystem parallel = new ParticleSystem(20_000, 1, 7L);
+        ParticleSystem sequential = new ParticleSystem(20_000, Integer.MAX_VALUE, 7L);
+        SimulationClock clock = new SimulationClock(STEP_NANOS);
+        for (ParticleSystem system : List.of(parallel, sequential)) {
+            system.createGoalReachedEmitter(new Position(1, 0, 1), 6_000);
+            system.createGoalReachedEmitter(new Position(-1, 0, -1), 6_000);
+        }
+
+        // Act
+        for (int tick = 0; tick < 5; tick++) {
+            SimulationTime time = clock.advance();
+            parallel.update(time);
+            sequential.update(time);
+        }
+
+        // Assert
+        assertEquals(12_000, parallel.getActiveParticleCount());
+        assertEquals(sequential.getAllParticles(), parallel.getAllParticles());
+    }
+
+    private static ParticleConfig longLivedConfig(int emissionRate) {
+        ParticleConfig config = ParticleConfig.createDustConfig();
+        config.setEmissionRate(emissionRate);
+        config.setParticleLifetime(10_000);
+        return config;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.motion.websocket;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class InterestAreaTest {
+
+    @Test
+    void constructor_ShouldRejectCenterOutsideWorld() {
+        assertThrows(IllegalArgumentException.class, () -> new InterestArea(1e30f, 0.0f, 1.0f));
+        assertThrows(IllegalArgumentException.class, () -> new InterestArea(0.0f, Float.NaN, 1.0f));
+        assertThrows(IllegalArgumentException.class, () -> new InterestArea(Float.NEGATIVE_INFINITY, 0.0f, 1.0f));
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidRadius() {
+        assertThrows(IllegalArgumentException.class, () -> new InterestArea(0.0f, 0.0f, Float.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new InterestArea(0.0f, 0.0f, 0.0f));
+    }
+
+    @Test
+    void forEachCandidate_ShouldFindAreaAcrossNegativeCells() {
+        // Arrange
+        InterestAreaIndex index = new InterestAreaIndex(10.0f);
+        ClientSession session = mock(ClientSession.class);
+        index.update(session, null, new InterestArea(-5.0f, -5.0f, 8.0f));
+
+        // Act
+        List<ClientSession> inside = new ArrayList<>();
+        index.forEachCandidate(-12.0f, -12.0f, inside::add);
+        List<ClientSession> outside = new ArrayList<>();
+        index.forEachCandidate(-25.0f, -5.0f, outside::add);
+
+        // Assert
+        assertEquals(List.of(session), inside);
+        assertTrue(outside.isEmpty());
+    }
+
+    @Test
+    void update_ShouldRemoveEmptyCells() {
+        // Arrange
+        InterestAreaIndex index = new InterestAreaIndex(10.0f);
+        ClientSession session = mock(ClientSession.class);
+        InterestArea area = new InterestArea(0.0f, 0.0f, 5.0f);
+        index.update(session, null, area);
+
+        // Act
+        index.update(session, area, null);
+
+        // Assert
+        List<ClientSession> candidates = new ArrayList<>();
+        index.forEachCandidate(0.0f, 0.0f, candidates::add);
+        assertTrue(candidates.isEmpty());
+    }
+}